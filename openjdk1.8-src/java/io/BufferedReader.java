@@ -590,4 +590,155 @@ public class BufferedReader extends Reader {
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
                 iter, Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
+
+    /** Holds the start of a line that straddles a refill of the buffer */
+    private char lineBuf[];
+
+    /** The reusable read-only view returned by readLineBuffer, or null */
+    private java.nio.CharBuffer lineView;
+
+    /** The array that lineView is a view of */
+    private char lineViewArray[];
+
+    /**
+     * Reads a line of text into a view of this reader's buffers, as
+     * specified by {@link #readLineBuffer()}.
+     *
+     * @param      ignoreLF  If true, the next '\n' will be skipped
+     *
+     * @return     A view of the line, or null if the end of the stream has
+     *             been reached
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    java.nio.CharBuffer readLineBuffer(boolean ignoreLF) throws IOException {
+        int len = 0;    /* chars of the line held in lineBuf */
+        int startChar;
+
+        synchronized (lock) {
+            ensureOpen();
+            boolean omitLF = ignoreLF || skipLF;
+
+        bufferLoop:
+            for (;;) {
+
+                if (nextChar >= nChars)
+                    fill();
+                if (nextChar >= nChars) { /* EOF */
+                    if (len > 0)
+                        return lineView(lineBuf, 0, len);
+                    else
+                        return null;
+                }
+                boolean eol = false;
+                char c = 0;
+                int i;
+
+                /* Skip a leftover '\n', if necessary */
+                if (omitLF && (cb[nextChar] == '\n'))
+                    nextChar++;
+                skipLF = false;
+                omitLF = false;
+
+            charLoop:
+                for (i = nextChar; i < nChars; i++) {
+                    c = cb[i];
+                    if ((c == '\n') || (c == '\r')) {
+                        eol = true;
+                        break charLoop;
+                    }
+                }
+
+                startChar = nextChar;
+                nextChar = i;
+                int n = i - startChar;
+
+                if (eol) {
+                    java.nio.CharBuffer line;
+                    if (len == 0) {
+                        line = lineView(cb, startChar, n);
+                    } else {
+                        appendLine(len, startChar, n);
+                        line = lineView(lineBuf, 0, len + n);
+                    }
+                    nextChar++;
+                    if (c == '\r') {
+                        skipLF = true;
+                    }
+                    return line;
+                }
+
+                /* The buffer is about to be refilled: save the partial line */
+                appendLine(len, startChar, n);
+                len += n;
+            }
+        }
+    }
+
+    /**
+     * Copies n chars from the buffer, starting at startChar, to lineBuf at
+     * offset len, growing lineBuf if necessary.
+     */
+    private void appendLine(int len, int startChar, int n) {
+        int min = len + n;
+        if (min < 0)
+            throw new OutOfMemoryError("Line too long");
+        if (lineBuf == null || lineBuf.length < min) {
+            int size = Math.max(min, (lineBuf == null)
+                                     ? defaultExpectedLineLength
+                                     : lineBuf.length * 2);
+            if (size < 0)
+                size = min;
+            char nlb[] = new char[size];
+            if (len > 0)
+                System.arraycopy(lineBuf, 0, nlb, 0, len);
+            lineBuf = nlb;
+        }
+        System.arraycopy(cb, startChar, lineBuf, len, n);
+    }
+
+    /**
+     * Positions the reusable line view over the given range of chars,
+     * creating a new view if the array has changed.
+     */
+    private java.nio.CharBuffer lineView(char[] a, int off, int n) {
+        java.nio.CharBuffer view = lineView;
+        if (view == null || lineViewArray != a) {
+            lineView = view = java.nio.CharBuffer.wrap(a).asReadOnlyBuffer();
+            lineViewArray = a;
+        }
+        view.limit(off + n).position(off);
+        return view;
+    }
+
+    /**
+     * Reads a line of text without creating a string.  A line is
+     * considered to be terminated by any one of a line feed ('\n'), a
+     * carriage return ('\r'), or a carriage return followed immediately by
+     * a linefeed.
+     *
+     * <p> The returned buffer is a read-only view of this reader's internal
+     * buffers, so it has no accessible array and cannot be written to.
+     * Its position is the first character of the line and its limit is the
+     * character following the last, so that as a {@link CharSequence} it
+     * holds exactly the characters of the line, not including any
+     * line-termination characters.  No copy is made unless the line
+     * straddles a refill of the buffer.  The same buffer object may be
+     * returned by successive invocations, and its contents are only valid
+     * until the next operation on this reader.  Callers that need to keep
+     * a line must copy it, for example with {@code toString()}; callers
+     * that tokenize it can do so with {@code subSequence} or with absolute
+     * {@code get} operations, without creating any strings.
+     *
+     * @return     A view of the line, or null if the end of the stream has
+     *             been reached
+     *
+     * @exception  IOException  If an I/O error occurs
+     *
+     * @see        #readLine()
+     * @since      1.8
+     */
+    public java.nio.CharBuffer readLineBuffer() throws IOException {
+        return readLineBuffer(false);
+    }
 }
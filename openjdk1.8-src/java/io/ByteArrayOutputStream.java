@@ -87,7 +87,7 @@ public class ByteArrayOutputStream extends OutputStream {
      * interpreted as a request for the unsatisfiably large capacity
      * {@code (long) Integer.MAX_VALUE + (minCapacity - Integer.MAX_VALUE)}.
      */
-    private void ensureCapacity(int minCapacity) {
+    void ensureCapacity(int minCapacity) {
         // overflow-conscious code
         if (minCapacity - buf.length > 0)
             grow(minCapacity);
@@ -280,4 +280,24 @@ public class ByteArrayOutputStream extends OutputStream {
     public void close() throws IOException {
     }
 
+    /**
+     * Returns a byte buffer that wraps the internal buffer of this output
+     * stream without copying it.  The position of the returned buffer is
+     * zero and its limit is the current size of this output stream; its
+     * backing array, available through {@link java.nio.ByteBuffer#array()},
+     * is the internal buffer itself.
+     *
+     * <p> The returned buffer reflects later writes to this output stream
+     * only as long as they do not cause the internal buffer to grow, and
+     * writes following a {@link #reset()} overwrite its contents.  It is
+     * intended for handing the accumulated output to code that consumes it
+     * before this output stream is written again.
+     *
+     * @return  a byte buffer over the current contents of this output stream
+     * @since   1.8
+     */
+    public synchronized java.nio.ByteBuffer toByteBuffer() {
+        return java.nio.ByteBuffer.wrap(buf, 0, count);
+    }
+
 }
@@ -280,4 +280,27 @@ public class LineNumberReader extends BufferedReader {
         }
     }
 
+    /**
+     * Reads a line of text without creating a string, as specified by
+     * {@link BufferedReader#readLineBuffer()}.  Whenever a line terminator
+     * is read the current line number is incremented.
+     *
+     * @return  A view of the line, or <tt>null</tt> if the end of the
+     *          stream has been reached
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @since   1.8
+     */
+    public java.nio.CharBuffer readLineBuffer() throws IOException {
+        synchronized (lock) {
+            java.nio.CharBuffer l = super.readLineBuffer(skipLF);
+            skipLF = false;
+            if (l != null)
+                lineNumber++;
+            return l;
+        }
+    }
+
 }
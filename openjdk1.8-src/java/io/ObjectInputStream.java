@@ -1856,7 +1856,7 @@ public class ObjectInputStream
         bin.setBlockDataMode(true);
         final boolean checksRequired = isCustomSubclass();
         try {
-            if ((cl = resolveClass(readDesc)) == null) {
+            if ((cl = resolveRetainedClass(readDesc)) == null) {
                 resolveEx = new ClassNotFoundException("null class");
             } else if (checksRequired) {
                 ReflectUtil.checkPackageAccess(cl);
@@ -1873,7 +1873,7 @@ public class ObjectInputStream
         try {
             totalObjectRefs++;
             depth++;
-            desc.initNonProxy(readDesc, cl, resolveEx, readClassDesc(false));
+            desc = initDesc(desc, descHandle, readDesc, cl, resolveEx, readClassDesc(false));
         } finally {
             depth--;
         }
@@ -3892,4 +3892,114 @@ public class ObjectInputStream
             throw new AssertionError();
         }
     }
+
+    // -- Retained class descriptors --
+
+    /** true if resolved class descriptors are retained across resets */
+    private boolean retainClassDescriptors;
+
+    /** resolved class descriptors by class name, if retained */
+    private HashMap<String, ObjectStreamClass[]> retainedDescs;
+
+    /**
+     * Enables or disables the retention of class descriptors across stream
+     * resets.
+     *
+     * <p>A stream that carries a sequence of messages is typically reset by
+     * the sender after each message, so that neither side keeps the objects
+     * of earlier messages reachable.  A reset also discards the class
+     * descriptors, which the sender then writes again and the receiver must
+     * resolve again with {@link #resolveClass resolveClass}.  When retention
+     * is enabled this stream remembers every class descriptor that it has
+     * resolved.  A descriptor read again later, with the same name,
+     * serialVersionUID, flags, fields and superclass descriptor, reuses the
+     * earlier resolution: {@code resolveClass} is not invoked again, and any
+     * class annotation written by the sender is skipped.  Object handles are
+     * still discarded by a reset as usual.  The wire format is not affected.
+     *
+     * <p>Retention should only be enabled if the sender's classes do not
+     * change over the life of the stream, and if the resolution of a class
+     * does not depend on its annotation or on state that changes between
+     * messages.
+     *
+     * @param retain true to retain class descriptors, false to discard any
+     *        retained descriptors and resolve each descriptor when read
+     * @since 1.8
+     */
+    public void setRetainClassDescriptors(boolean retain) {
+        retainClassDescriptors = retain;
+        if (!retain) {
+            retainedDescs = null;
+        }
+    }
+
+    /**
+     * Returns the retained descriptor matching the given descriptor read
+     * from the stream and its superclass descriptor, or null if there is
+     * none.
+     */
+    private ObjectStreamClass findRetainedDesc(ObjectStreamClass readDesc,
+                                               ObjectStreamClass superDesc,
+                                               boolean checkSuper)
+    {
+        if (retainedDescs == null) {
+            return null;
+        }
+        // entries are {readDesc, desc} pairs
+        ObjectStreamClass[] entry = retainedDescs.get(readDesc.getName());
+        if (entry == null || !entry[0].hasSameStreamForm(readDesc)) {
+            return null;
+        }
+        if (checkSuper && entry[1].getSuperDesc() != superDesc) {
+            return null;
+        }
+        return entry[1];
+    }
+
+    /**
+     * Resolves the class of the given descriptor, reusing the class of a
+     * retained descriptor with the same stream form if there is one.
+     */
+    private Class<?> resolveRetainedClass(ObjectStreamClass readDesc)
+        throws IOException, ClassNotFoundException
+    {
+        ObjectStreamClass retained = findRetainedDesc(readDesc, null, false);
+        if (retained != null) {
+            return retained.forClass();
+        }
+        return resolveClass(readDesc);
+    }
+
+    /**
+     * Initializes the given descriptor from the descriptor read from the
+     * stream, or replaces it with an equivalent retained descriptor.  Newly
+     * initialized descriptors are retained if retention is enabled.
+     */
+    private ObjectStreamClass initDesc(ObjectStreamClass desc,
+                                       int descHandle,
+                                       ObjectStreamClass readDesc,
+                                       Class<?> cl,
+                                       ClassNotFoundException resolveEx,
+                                       ObjectStreamClass superDesc)
+        throws InvalidClassException
+    {
+        if (retainClassDescriptors && resolveEx == null) {
+            ObjectStreamClass retained = findRetainedDesc(readDesc, superDesc, true);
+            if (retained != null && retained.forClass() == cl) {
+                if (handles.lookupObject(descHandle) == desc) {
+                    handles.setObject(descHandle, retained);
+                }
+                return retained;
+            }
+        }
+        desc.initNonProxy(readDesc, cl, resolveEx, superDesc);
+        if (retainClassDescriptors && resolveEx == null) {
+            if (retainedDescs == null) {
+                retainedDescs = new HashMap<>();
+            }
+            retainedDescs.put(readDesc.getName(),
+                              new ObjectStreamClass[] { readDesc, desc });
+        }
+        return desc;
+    }
 }
@@ -2478,4 +2478,38 @@ public class ObjectStreamClass implements Serializable {
             }
         }
     }
+
+    /**
+     * Returns true if this descriptor, read from a stream, describes the
+     * same stream form as the given one: same name, serialVersionUID, flags
+     * and serializable fields.  Used by ObjectInputStream to reuse a
+     * resolved descriptor when a class descriptor is read again after a
+     * reset.
+     */
+    boolean hasSameStreamForm(ObjectStreamClass other) {
+        if (other == this) {
+            return true;
+        }
+        if (isProxy || other.isProxy ||
+            !name.equals(other.name) ||
+            !suid.equals(other.suid) ||
+            isEnum != other.isEnum ||
+            serializable != other.serializable ||
+            externalizable != other.externalizable ||
+            hasWriteObjectData != other.hasWriteObjectData ||
+            hasBlockExternalData != other.hasBlockExternalData ||
+            fields.length != other.fields.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            ObjectStreamField f = fields[i], of = other.fields[i];
+            if (!f.getName().equals(of.getName()) ||
+                !f.getSignature().equals(of.getSignature()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
 }
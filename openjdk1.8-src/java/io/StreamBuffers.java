@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+/**
+ * A per-thread cache of the byte arrays used as buffers by the
+ * unsynchronized buffered streams.  A stream that is created without a
+ * caller-provided buffer takes its buffer from the cache of the creating
+ * thread, and gives it back when the stream is closed.  A thread that
+ * repeatedly creates and closes short-lived streams therefore reuses the
+ * same few arrays.
+ */
+final class StreamBuffers {
+
+    private StreamBuffers() { }
+
+    /** The size of the cached buffers */
+    static final int BUFFER_SIZE = 8192;
+
+    /** The number of buffers cached per thread */
+    private static final int CACHE_SIZE = 4;
+
+    private static final ThreadLocal<byte[][]> cache =
+        new ThreadLocal<byte[][]>() {
+            @Override
+            protected byte[][] initialValue() {
+                return new byte[CACHE_SIZE][];
+            }
+        };
+
+    /**
+     * Returns a buffer of {@link #BUFFER_SIZE} bytes, taken from the cache
+     * of the current thread if possible.  The contents of the returned
+     * array are undefined.
+     */
+    static byte[] take() {
+        byte[][] buffers = cache.get();
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            byte[] buf = buffers[i];
+            if (buf != null) {
+                buffers[i] = null;
+                return buf;
+            }
+        }
+        return new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Gives a buffer obtained from {@link #take} back to the cache of the
+     * current thread.  The buffer is dropped if the cache is full.
+     */
+    static void release(byte[] buf) {
+        if (buf.length != BUFFER_SIZE)
+            return;
+        byte[][] buffers = cache.get();
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            if (buffers[i] == null) {
+                buffers[i] = buf;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+/**
+ * A buffered output stream for use by a single thread.
+ *
+ * <p> This class behaves like {@link BufferedOutputStream}, but none of its
+ * methods are synchronized and it does not necessarily allocate its own
+ * buffer.  The buffer is either provided by the caller, who may reuse it
+ * once the stream is closed, or taken from a small per-thread cache of
+ * buffers to which it is given back when the stream is closed.
+ *
+ * <p> An instance of this class must not be used by more than one thread
+ * without external synchronization, and must not be used after it has
+ * been closed.
+ *
+ * @see     BufferedOutputStream
+ * @since   1.8
+ */
+public
+class UnsynchronizedBufferedOutputStream extends FilterOutputStream {
+    /**
+     * The internal buffer where data is stored.
+     */
+    protected byte buf[];
+
+    /**
+     * The number of valid bytes in the buffer. This value is always
+     * in the range <tt>0</tt> through <tt>buf.length</tt>; elements
+     * <tt>buf[0]</tt> through <tt>buf[count-1]</tt> contain valid
+     * byte data.
+     */
+    protected int count;
+
+    /** The buffer taken from the per-thread cache, or null */
+    private byte[] pooled;
+
+    /**
+     * Creates an <code>UnsynchronizedBufferedOutputStream</code> with a
+     * buffer of 8192 bytes taken from the cache of the current thread.
+     * The buffer is given back to the cache when the stream is closed.
+     *
+     * @param   out   the underlying output stream.
+     */
+    public UnsynchronizedBufferedOutputStream(OutputStream out) {
+        super(out);
+        buf = pooled = StreamBuffers.take();
+    }
+
+    /**
+     * Creates an <code>UnsynchronizedBufferedOutputStream</code> that uses
+     * the given array as its buffer.  The caller must not access the array
+     * until the stream has been closed.
+     *
+     * @param   out   the underlying output stream.
+     * @param   buf   the buffer.
+     * @exception IllegalArgumentException if the length of
+     *            <code>buf</code> is zero.
+     */
+    public UnsynchronizedBufferedOutputStream(OutputStream out, byte[] buf) {
+        super(out);
+        if (buf.length == 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        this.buf = buf;
+    }
+
+    /** Returns the buffer, or throws if the stream has been closed */
+    private byte[] getBufIfOpen() throws IOException {
+        byte[] buffer = buf;
+        if (buffer == null)
+            throw new IOException("Stream closed");
+        return buffer;
+    }
+
+    /** Flush the internal buffer */
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Writes the specified byte to this buffered output stream.
+     *
+     * @param      b   the byte to be written.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public void write(int b) throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if (count >= buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte)b;
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array
+     * starting at offset <code>off</code> to this buffered output stream,
+     * following the general contract of
+     * {@link BufferedOutputStream#write(byte[], int, int)}.
+     *
+     * @param      b     the data.
+     * @param      off   the start offset in the data.
+     * @param      len   the number of bytes to write.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public void write(byte b[], int off, int len) throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if (len >= buffer.length) {
+            /* If the request length exceeds the size of the output buffer,
+               flush the output buffer and then write the data directly.
+               In this way buffered streams will cascade harmlessly. */
+            flushBuffer();
+            out.write(b, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            flushBuffer();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Flushes this buffered output stream. This forces any buffered
+     * output bytes to be written out to the underlying output stream.
+     *
+     * @exception  IOException  if an I/O error occurs.
+     * @see        java.io.FilterOutputStream#out
+     */
+    public void flush() throws IOException {
+        getBufIfOpen(); // Check for closed stream
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * Flushes and closes this output stream and releases any system
+     * resources associated with the stream.  A buffer taken from the
+     * per-thread cache is given back to the cache, even if flushing fails.
+     * Closing a previously closed stream has no effect.
+     *
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public void close() throws IOException {
+        if (buf == null)
+            return;
+        try {
+            super.close();
+        } finally {
+            buf = null;
+            count = 0;
+            byte[] buffer = pooled;
+            if (buffer != null) {
+                pooled = null;
+                StreamBuffers.release(buffer);
+            }
+        }
+    }
+}
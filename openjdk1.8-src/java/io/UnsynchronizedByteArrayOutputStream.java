@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A byte array output stream for use by a single thread.
+ *
+ * <p> This class behaves like {@link ByteArrayOutputStream}, but its
+ * methods for writing and retrieving data are not synchronized, and it may
+ * start out with a caller-provided array as its buffer.  A codec that
+ * encodes into the same stream over and over can {@link #reset() reset} it
+ * between uses and hand the result on with {@link #toByteBuffer()}, so that
+ * encoding does not allocate once the buffer has grown to its working
+ * size.
+ *
+ * <p> An instance of this class must not be used by more than one thread
+ * without external synchronization.
+ *
+ * @see     ByteArrayOutputStream
+ * @since   1.8
+ */
+public class UnsynchronizedByteArrayOutputStream extends ByteArrayOutputStream {
+
+    /**
+     * Creates a new byte array output stream. The buffer capacity is
+     * initially 32 bytes, though its size increases if necessary.
+     */
+    public UnsynchronizedByteArrayOutputStream() {
+        super();
+    }
+
+    /**
+     * Creates a new byte array output stream, with a buffer capacity of
+     * the specified size, in bytes.
+     *
+     * @param   size   the initial size.
+     * @exception  IllegalArgumentException if size is negative.
+     */
+    public UnsynchronizedByteArrayOutputStream(int size) {
+        super(size);
+    }
+
+    /**
+     * Creates a new byte array output stream that writes into the given
+     * array until it needs to grow.  The stream is initially empty.
+     *
+     * @param   buf   the initial buffer.
+     */
+    public UnsynchronizedByteArrayOutputStream(byte[] buf) {
+        super(0);
+        this.buf = buf;
+    }
+
+    /**
+     * Writes the specified byte to this byte array output stream.
+     *
+     * @param   b   the byte to be written.
+     */
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count] = (byte) b;
+        count += 1;
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array
+     * starting at offset <code>off</code> to this byte array output stream.
+     *
+     * @param   b     the data.
+     * @param   off   the start offset in the data.
+     * @param   len   the number of bytes to write.
+     */
+    @Override
+    public void write(byte b[], int off, int len) {
+        if ((off < 0) || (off > b.length) || (len < 0) ||
+            ((off + len) - b.length > 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * Writes the complete contents of this byte array output stream to
+     * the specified output stream argument, as if by calling the output
+     * stream's write method using <code>out.write(buf, 0, count)</code>.
+     *
+     * @param      out   the output stream to which to write the data.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    /**
+     * Resets the <code>count</code> field of this byte array output
+     * stream to zero, so that all currently accumulated output in the
+     * output stream is discarded. The output stream can be used again,
+     * reusing the already allocated buffer space.
+     */
+    @Override
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * Creates a newly allocated byte array. Its size is the current
+     * size of this output stream and the valid contents of the buffer
+     * have been copied into it.
+     *
+     * @return  the current contents of this output stream, as a byte array.
+     */
+    @Override
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Returns the current size of the buffer.
+     *
+     * @return  the value of the <code>count</code> field, which is the number
+     *          of valid bytes in this output stream.
+     */
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a byte buffer that wraps the internal buffer of this output
+     * stream without copying it, as specified by
+     * {@link ByteArrayOutputStream#toByteBuffer()}.
+     *
+     * @return  a byte buffer over the current contents of this output stream
+     */
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+}
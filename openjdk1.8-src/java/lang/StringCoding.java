@@ -190,10 +190,10 @@ class StringCoding {
                 throw new UnsupportedEncodingException(csn);
             set(decoder, sd);
         }
-        return sd.decode(ba, off, len);
+        return decode(sd, ba, off, len);
     }
 
-    static char[] decode(Charset cs, byte[] ba, int off, int len) {
+    private static char[] decode0(Charset cs, byte[] ba, int off, int len) {
         // (1)We never cache the "external" cs, the only benefit of creating
         // an additional StringDe/Encoder object to wrap it is to share the
         // de/encode() method. These SD/E objects are short-lifed, the young-gen
@@ -341,10 +341,10 @@ class StringCoding {
                 throw new UnsupportedEncodingException (csn);
             set(encoder, se);
         }
-        return se.encode(ca, off, len);
+        return encode(se, ca, off, len);
     }
 
-    static byte[] encode(Charset cs, char[] ca, int off, int len) {
+    private static byte[] encode0(Charset cs, char[] ca, int off, int len) {
         CharsetEncoder ce = cs.newEncoder();
         int en = scale(len, ce.maxBytesPerChar());
         byte[] ba = new byte[en];
@@ -401,4 +401,248 @@ class StringCoding {
             return null;
         }
     }
+
+    // -- Fast paths --
+    //
+    // The ISO-8859-1, US-ASCII and UTF-8 charsets are handled here by plain
+    // array loops (see StringLatin1), with an exactly sized result and
+    // without a CharsetDecoder/CharsetEncoder being created or reset.
+    // The UTF-8 loops take well-formed input only: on malformed input they
+    // return null and the charset's coder does the replacement.
+
+    private static final int FP_NONE   = sun.nio.cs.FastPathCharsets.NONE;
+    private static final int FP_ASCII  = sun.nio.cs.FastPathCharsets.ASCII;
+    private static final int FP_LATIN1 = sun.nio.cs.FastPathCharsets.LATIN1;
+    private static final int FP_UTF8   = sun.nio.cs.FastPathCharsets.UTF8;
+
+    private static int fastPath(Charset cs) {
+        if (!StringLatin1.enabled())
+            return FP_NONE;
+        return sun.nio.cs.FastPathCharsets.kindOf(cs);
+    }
+
+    private static char[] decodeFast(int kind, byte[] ba, int off, int len) {
+        switch (kind) {
+        case FP_LATIN1:
+            return StringLatin1.decodeLatin1(ba, off, len);
+        case FP_ASCII:
+            return StringLatin1.decodeASCII(ba, off, len);
+        case FP_UTF8:
+            return decodeUTF8(ba, off, len);
+        default:
+            throw new InternalError("No fast path: " + kind);
+        }
+    }
+
+    private static byte[] encodeFast(int kind, char[] ca, int off, int len) {
+        switch (kind) {
+        case FP_LATIN1:
+            return StringLatin1.encodeLatin1(ca, off, len);
+        case FP_ASCII:
+            return StringLatin1.encodeASCII(ca, off, len);
+        case FP_UTF8:
+            return encodeUTF8(ca, off, len);
+        default:
+            throw new InternalError("No fast path: " + kind);
+        }
+    }
+
+    private static char[] decode(StringDecoder sd, byte[] ba, int off, int len) {
+        int kind = fastPath(sd.cs);
+        if (kind != FP_NONE) {
+            char[] ca = decodeFast(kind, ba, off, len);
+            if (ca != null)
+                return ca;
+        }
+        return sd.decode(ba, off, len);
+    }
+
+    static char[] decode(Charset cs, byte[] ba, int off, int len) {
+        // The fast paths never hand ba to the charset, so they need
+        // neither the defensive copy nor the isTrusted check
+        int kind = fastPath(cs);
+        if (kind != FP_NONE) {
+            char[] ca = decodeFast(kind, ba, off, len);
+            if (ca != null)
+                return ca;
+        }
+        return decode0(cs, ba, off, len);
+    }
+
+    private static byte[] encode(StringEncoder se, char[] ca, int off, int len) {
+        int kind = fastPath(se.cs);
+        if (kind != FP_NONE) {
+            byte[] ba = encodeFast(kind, ca, off, len);
+            if (ba != null)
+                return ba;
+        }
+        return se.encode(ca, off, len);
+    }
+
+    static byte[] encode(Charset cs, char[] ca, int off, int len) {
+        int kind = fastPath(cs);
+        if (kind != FP_NONE) {
+            byte[] ba = encodeFast(kind, ca, off, len);
+            if (ba != null)
+                return ba;
+        }
+        return encode0(cs, ca, off, len);
+    }
+
+    // -- UTF-8 --
+
+    private static boolean isNotContinuation(int b) {
+        return (b & 0xc0) != 0x80;
+    }
+
+    /*
+     * Returns the length of the well-formed UTF-8 sequence starting with the
+     * non-ASCII byte at ba[sp], or -1 if the sequence is malformed or
+     * truncated. Overlong forms, surrogates and code points above U+10FFFF
+     * are rejected, as they are by the UTF-8 decoder.
+     */
+    private static int utf8Length(byte[] ba, int sp, int sl) {
+        int b1 = ba[sp] & 0xff;
+        if (b1 >= 0xc2 && b1 <= 0xdf) {
+            if (sp + 1 < sl && !isNotContinuation(ba[sp + 1]))
+                return 2;
+        } else if (b1 >= 0xe0 && b1 <= 0xef) {
+            if (sp + 2 < sl) {
+                int b2 = ba[sp + 1];
+                int b3 = ba[sp + 2];
+                if (isNotContinuation(b2) || isNotContinuation(b3))
+                    return -1;
+                char c = (char)(((b1 & 0x0f) << 12) |
+                                ((b2 & 0x3f) << 6) |
+                                 (b3 & 0x3f));
+                if (c >= 0x800 && !Character.isSurrogate(c))
+                    return 3;
+            }
+        } else if (b1 >= 0xf0 && b1 <= 0xf4) {
+            if (sp + 3 < sl) {
+                int b2 = ba[sp + 1];
+                int b3 = ba[sp + 2];
+                int b4 = ba[sp + 3];
+                if (isNotContinuation(b2) || isNotContinuation(b3) ||
+                    isNotContinuation(b4))
+                    return -1;
+                int uc = ((b1 & 0x07) << 18) |
+                         ((b2 & 0x3f) << 12) |
+                         ((b3 & 0x3f) << 6) |
+                          (b4 & 0x3f);
+                if (Character.isSupplementaryCodePoint(uc))
+                    return 4;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Decodes well-formed UTF-8 in two passes, one to validate and count
+     * the chars and one to fill an exactly sized array. The leading ASCII
+     * run is only scanned once.
+     */
+    private static char[] decodeUTF8(byte[] ba, int off, int len) {
+        int ascii = StringLatin1.asciiPrefix(ba, off, len);
+        if (ascii == len)
+            return StringLatin1.decodeLatin1(ba, off, len);
+        int sp = off + ascii;
+        int sl = off + len;
+        int clen = ascii;
+        while (sp < sl) {
+            if (ba[sp] >= 0) {
+                sp++;
+                clen++;
+                continue;
+            }
+            int n = utf8Length(ba, sp, sl);
+            if (n < 0)
+                return null;
+            clen += (n == 4) ? 2 : 1;
+            sp += n;
+        }
+        char[] ca = new char[clen];
+        StringLatin1.inflate(ba, off, ca, 0, ascii);
+        sp = off + ascii;
+        int dp = ascii;
+        while (sp < sl) {
+            int b1 = ba[sp++];
+            if (b1 >= 0) {
+                ca[dp++] = (char)b1;
+            } else if ((b1 >> 5) == -2) {
+                int b2 = ba[sp++];
+                ca[dp++] = (char)(((b1 & 0x1f) << 6) | (b2 & 0x3f));
+            } else if ((b1 >> 4) == -2) {
+                int b2 = ba[sp++];
+                int b3 = ba[sp++];
+                ca[dp++] = (char)(((b1 & 0x0f) << 12) |
+                                  ((b2 & 0x3f) << 6) |
+                                   (b3 & 0x3f));
+            } else {
+                int b2 = ba[sp++];
+                int b3 = ba[sp++];
+                int b4 = ba[sp++];
+                int uc = ((b1 & 0x07) << 18) |
+                         ((b2 & 0x3f) << 12) |
+                         ((b3 & 0x3f) << 6) |
+                          (b4 & 0x3f);
+                ca[dp++] = Character.highSurrogate(uc);
+                ca[dp++] = Character.lowSurrogate(uc);
+            }
+        }
+        return ca;
+    }
+
+    /*
+     * Encodes to UTF-8 in two passes, one to count the bytes and one to
+     * fill an exactly sized array. Returns null on an unpaired surrogate.
+     */
+    private static byte[] encodeUTF8(char[] ca, int off, int len) {
+        int sp = off;
+        int sl = off + len;
+        int blen = 0;
+        while (sp < sl) {
+            char c = ca[sp++];
+            if (c < 0x80) {
+                blen++;
+            } else if (c < 0x800) {
+                blen += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || sp == sl ||
+                    !Character.isLowSurrogate(ca[sp]))
+                    return null;
+                sp++;
+                blen += 4;
+            } else {
+                blen += 3;
+            }
+        }
+        byte[] ba = new byte[blen];
+        if (blen == len) {
+            StringLatin1.compress(ca, off, ba, 0, len);
+            return ba;
+        }
+        sp = off;
+        int dp = 0;
+        while (sp < sl) {
+            char c = ca[sp++];
+            if (c < 0x80) {
+                ba[dp++] = (byte)c;
+            } else if (c < 0x800) {
+                ba[dp++] = (byte)(0xc0 | (c >> 6));
+                ba[dp++] = (byte)(0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c)) {
+                int uc = Character.toCodePoint(c, ca[sp++]);
+                ba[dp++] = (byte)(0xf0 | (uc >> 18));
+                ba[dp++] = (byte)(0x80 | ((uc >> 12) & 0x3f));
+                ba[dp++] = (byte)(0x80 | ((uc >> 6) & 0x3f));
+                ba[dp++] = (byte)(0x80 | (uc & 0x3f));
+            } else {
+                ba[dp++] = (byte)(0xe0 | (c >> 12));
+                ba[dp++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+                ba[dp++] = (byte)(0x80 | (c & 0x3f));
+            }
+        }
+        return ba;
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.lang;
+
+import java.util.Arrays;
+
+/**
+ * Latin-1 helpers for the String coding fast paths.
+ *
+ * <p> {@code String.value} stays a {@code char[]}; these helpers only
+ * speed up decoding from and encoding to ISO-8859-1 and US-ASCII in
+ * {@link StringCoding}.  They are plain widening and narrowing loops with
+ * no {@code CharsetDecoder} or {@code CharsetEncoder} involved.
+ *
+ * <p> The fast paths are on by default and can be switched off at startup
+ * with {@code -Djava.lang.StringCoding.latin1FastPath=false}, e.g. to
+ * compare allocation rates of the two configurations.
+ */
+
+final class StringLatin1 {
+
+    private StringLatin1() { }
+
+    /** Replacement byte of the ISO-8859-1 and US-ASCII encoders */
+    private static final byte REPL_BYTE = (byte)'?';
+
+    /** Replacement char of the US-ASCII decoder */
+    private static final char REPL_CHAR = '\uFFFD';
+
+    /**
+     * Holder for the startup switch. The saved system properties are not
+     * available until the VM is booted, so it must not be touched earlier.
+     */
+    private static class Holder {
+        static final boolean ENABLED = !"false".equalsIgnoreCase(
+            sun.misc.VM.getSavedProperty("java.lang.StringCoding.latin1FastPath"));
+    }
+
+    /**
+     * Returns {@code true} if the Latin-1 fast paths may be used. Always
+     * {@code false} while the VM is still booting.
+     */
+    static boolean enabled() {
+        return sun.misc.VM.isBooted() && Holder.ENABLED;
+    }
+
+    /**
+     * Narrows {@code len} chars into {@code dst}, stopping at the first
+     * char that is not Latin-1.
+     *
+     * @return the number of chars narrowed
+     */
+    static int compress(char[] src, int sp, byte[] dst, int dp, int len) {
+        int i = 0;
+        for (; i < len; i++) {
+            char c = src[sp++];
+            if (c > '\u00FF')
+                break;
+            dst[dp++] = (byte)c;
+        }
+        return i;
+    }
+
+    /** Widens {@code len} Latin-1 bytes into {@code dst}. */
+    static void inflate(byte[] src, int sp, char[] dst, int dp, int len) {
+        for (int i = 0; i < len; i++)
+            dst[dp++] = (char)(src[sp++] & 0xff);
+    }
+
+    /**
+     * Returns the length of the leading run of bytes in the range
+     * {@code [0, 0x7f]}.
+     */
+    static int asciiPrefix(byte[] ba, int off, int len) {
+        int i = 0;
+        while (i < len && ba[off + i] >= 0)
+            i++;
+        return i;
+    }
+
+    // -- ISO-8859-1 --
+
+    static char[] decodeLatin1(byte[] ba, int off, int len) {
+        char[] ca = new char[len];
+        inflate(ba, off, ca, 0, len);
+        return ca;
+    }
+
+    static byte[] encodeLatin1(char[] ca, int off, int len) {
+        byte[] ba = new byte[len];
+        int n = compress(ca, off, ba, 0, len);
+        if (n == len)
+            return ba;
+        return encodeSlow(ca, off + n, len - n, ba, n, '\u00FF');
+    }
+
+    // -- US-ASCII --
+
+    static char[] decodeASCII(byte[] ba, int off, int len) {
+        char[] ca = new char[len];
+        int n = asciiPrefix(ba, off, len);
+        inflate(ba, off, ca, 0, n);
+        for (int i = n; i < len; i++) {
+            byte b = ba[off + i];
+            ca[i] = (b >= 0) ? (char)b : REPL_CHAR;
+        }
+        return ca;
+    }
+
+    static byte[] encodeASCII(char[] ca, int off, int len) {
+        byte[] ba = new byte[len];
+        int i = 0;
+        for (; i < len; i++) {
+            char c = ca[off + i];
+            if (c >= 0x80)
+                break;
+            ba[i] = (byte)c;
+        }
+        if (i == len)
+            return ba;
+        return encodeSlow(ca, off + i, len - i, ba, i, '\u007F');
+    }
+
+    /*
+     * Finishes an encoding once a char above {@code max} was seen. As in
+     * the charset encoders each unmappable char, or surrogate pair, is
+     * replaced by a single '?', so the result may be shorter than the input.
+     */
+    private static byte[] encodeSlow(char[] ca, int sp, int len,
+                                     byte[] ba, int dp, char max) {
+        int sl = sp + len;
+        while (sp < sl) {
+            char c = ca[sp++];
+            if (c <= max) {
+                ba[dp++] = (byte)c;
+                continue;
+            }
+            if (Character.isHighSurrogate(c) && sp < sl &&
+                Character.isLowSurrogate(ca[sp]))
+                sp++;
+            ba[dp++] = REPL_BYTE;
+        }
+        return (dp == ba.length) ? ba : Arrays.copyOf(ba, dp);
+    }
+}
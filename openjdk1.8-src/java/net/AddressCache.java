@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.net;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import sun.net.InetAddressCachePolicy;
+import sun.security.action.GetBooleanAction;
+import sun.security.action.GetIntegerAction;
+
+/**
+ * A concurrent cache of name service lookups, used by InetAddress in
+ * place of its synchronized positive and negative caches.
+ *
+ * <p> Lookups never take a lock. Each entry carries its own expiry, fixed
+ * when it is added from the cache policy in effect at the time. A
+ * positive entry that has expired may still be served for a further
+ * {@code sun.net.inetaddr.stale.ttl} seconds (default 10) while a single
+ * background lookup refreshes it through the configured name services;
+ * once that window has passed the next caller resolves synchronously.
+ * The negative cache holds at most
+ * {@code sun.net.inetaddr.negative.maxEntries} names (default 1024).
+ *
+ * <p> Concurrent lookups of the same name are still coalesced, but the
+ * threads waiting for one name no longer share a monitor with those
+ * waiting for any other.
+ */
+final class AddressCache {
+
+    private static final int STALE_TTL = getIntProperty(
+        "sun.net.inetaddr.stale.ttl", 10);
+
+    private static final int MAX_NEGATIVE = getIntProperty(
+        "sun.net.inetaddr.negative.maxEntries", 1024);
+
+    /* purge expired positive entries every PURGE_INTERVAL additions */
+    private static final int PURGE_INTERVAL = 64;
+
+    /* returns the non-negative value of the property, or the default */
+    private static int getIntProperty(String name, int defaultValue) {
+        int value = AccessController.doPrivileged(
+            new GetIntegerAction(name, defaultValue)).intValue();
+        return (value >= 0) ? value : defaultValue;
+    }
+
+    /**
+     * Returns the cache to use, or null if the synchronized cache in
+     * InetAddress was selected with {@code sun.net.inetaddr.legacyCache}.
+     */
+    private static AddressCache create() {
+        boolean legacy = AccessController.doPrivileged(
+            new GetBooleanAction("sun.net.inetaddr.legacyCache")).booleanValue();
+        return legacy ? null : new AddressCache();
+    }
+
+    static final class Entry {
+        final InetAddress[] addresses;
+        final long expiration;          // -1 if it never expires
+        final long staleUntil;          // served, with a refresh, until then
+        volatile int refreshing;
+
+        private static final AtomicIntegerFieldUpdater<Entry> REFRESHING =
+            AtomicIntegerFieldUpdater.newUpdater(Entry.class, "refreshing");
+
+        Entry(InetAddress[] addresses, long expiration, long staleUntil) {
+            this.addresses = addresses;
+            this.expiration = expiration;
+            this.staleUntil = staleUntil;
+        }
+
+        boolean fresh(long now) {
+            return expiration < 0 || now <= expiration;
+        }
+
+        boolean startRefresh() {
+            return REFRESHING.compareAndSet(this, 0, 1);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> positive =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Entry> negative =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CountDownLatch> lookups =
+        new ConcurrentHashMap<>();
+    private final AtomicInteger additions = new AtomicInteger();
+    private volatile ThreadPoolExecutor refresher;
+
+    private AddressCache() { }
+
+    /**
+     * Returns the cached addresses for the host, null if there are none.
+     * A stale positive entry is returned after scheduling its refresh.
+     */
+    InetAddress[] get(String host) {
+        host = host.toLowerCase();
+        long now = System.currentTimeMillis();
+
+        if (InetAddressCachePolicy.get() != InetAddressCachePolicy.NEVER) {
+            Entry e = positive.get(host);
+            if (e != null) {
+                if (e.fresh(now))
+                    return e.addresses;
+                if (now <= e.staleUntil) {
+                    if (e.startRefresh())
+                        refresh(host, e);
+                    return e.addresses;
+                }
+                positive.remove(host, e);
+            }
+        }
+        if (InetAddressCachePolicy.getNegative() != InetAddressCachePolicy.NEVER) {
+            Entry e = negative.get(host);
+            if (e != null) {
+                if (e.fresh(now))
+                    return e.addresses;
+                negative.remove(host, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the result of a lookup, replacing any entry for the host.
+     */
+    void put(String host, InetAddress[] addresses, boolean success) {
+        host = host.toLowerCase();
+        int policy = success ? InetAddressCachePolicy.get()
+                             : InetAddressCachePolicy.getNegative();
+        if (policy == InetAddressCachePolicy.NEVER)
+            return;
+
+        long now = System.currentTimeMillis();
+        long expiration, staleUntil;
+        if (policy == InetAddressCachePolicy.FOREVER) {
+            expiration = staleUntil = -1;
+        } else {
+            expiration = now + policy * 1000L;
+            staleUntil = success ? expiration + STALE_TTL * 1000L : expiration;
+        }
+        Entry e = new Entry(addresses, expiration, staleUntil);
+        if (success) {
+            positive.put(host, e);
+            if ((additions.incrementAndGet() % PURGE_INTERVAL) == 0)
+                purge(positive, now, Integer.MAX_VALUE);
+        } else {
+            negative.put(host, e);
+            if (negative.size() > MAX_NEGATIVE)
+                purge(negative, now, MAX_NEGATIVE);
+        }
+    }
+
+    /*
+     * Removes entries past their stale limit, then arbitrary entries
+     * until no more than max remain.
+     */
+    private static void purge(ConcurrentHashMap<String, Entry> map, long now,
+                              int max) {
+        for (Iterator<Entry> i = map.values().iterator(); i.hasNext(); ) {
+            Entry e = i.next();
+            if (e.staleUntil >= 0 && now > e.staleUntil)
+                i.remove();
+        }
+        for (Iterator<Entry> i = map.values().iterator();
+             i.hasNext() && map.size() > max; ) {
+            i.next();
+            i.remove();
+        }
+    }
+
+    /**
+     * Called before looking the host up. Returns null if the caller should
+     * do the lookup and then call {@link #endLookup}; otherwise waits for
+     * the lookup already in progress and returns its cached result.
+     */
+    InetAddress[] beginLookup(String host) {
+        CountDownLatch latch = new CountDownLatch(1);
+        for (;;) {
+            CountDownLatch other = lookups.putIfAbsent(host, latch);
+            if (other == null)
+                return null;
+            for (;;) {
+                try {
+                    other.await();
+                    break;
+                } catch (InterruptedException e) {
+                }
+            }
+            InetAddress[] addresses = get(host);
+            if (addresses != null)
+                return addresses;
+        }
+    }
+
+    void endLookup(String host) {
+        CountDownLatch latch = lookups.remove(host);
+        if (latch != null)
+            latch.countDown();
+    }
+
+    private void refresh(final String host, final Entry e) {
+        Runnable task = new Runnable() {
+            public void run() {
+                try {
+                    refreshCachedAddresses(host);
+                } finally {
+                    // allow another attempt if the entry is still in use
+                    e.refreshing = 0;
+                }
+            }
+        };
+        try {
+            refresher().execute(task);
+        } catch (RuntimeException x) {
+            e.refreshing = 0;
+        }
+    }
+
+    private ThreadPoolExecutor refresher() {
+        ThreadPoolExecutor pool = refresher;
+        if (pool == null) {
+            synchronized (this) {
+                if ((pool = refresher) == null) {
+                    pool = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>(),
+                        new ThreadFactory() {
+                            public Thread newThread(final Runnable r) {
+                                return AccessController.doPrivileged(
+                                    new PrivilegedAction<Thread>() {
+                                        public Thread run() {
+                                            Thread t =
+                                                new sun.misc.InnocuousThread(r);
+                                            t.setName("InetAddress-Refresher");
+                                            t.setDaemon(true);
+                                            return t;
+                                        }
+                                    });
+                            }
+                        });
+                    pool.allowCoreThreadTimeOut(true);
+                    refresher = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    // -- InetAddress entry points --
+
+    /*
+     * The concurrent cache, or null if the synchronized cache in
+     * InetAddress is in use. These methods dispatch to one or the other so
+     * that InetAddress itself keeps its original layout.
+     */
+    private static final AddressCache instance = create();
+
+    private static volatile boolean instanceInit;
+
+    static InetAddress[] getCachedAddresses(String hostname) {
+        if (instance == null)
+            return InetAddress.getCachedAddresses0(hostname);
+        if (!instanceInit) {
+            synchronized (InetAddress.addressCache) {
+                InetAddress.cacheInitIfNeeded();
+                instance.put(InetAddress.impl.anyLocalAddress().getHostName(),
+                             InetAddress.unknown_array, true);
+                instanceInit = true;
+            }
+        }
+        return instance.get(hostname);
+    }
+
+    static void cacheAddresses(String hostname,
+                               InetAddress[] addresses,
+                               boolean success) {
+        if (instance == null)
+            InetAddress.cacheAddresses0(hostname, addresses, success);
+        else
+            instance.put(hostname, addresses, success);
+    }
+
+    static InetAddress[] checkLookupTable(String host) {
+        if (instance == null)
+            return InetAddress.checkLookupTable0(host);
+        return instance.beginLookup(host);
+    }
+
+    static void updateLookupTable(String host) {
+        if (instance == null)
+            InetAddress.updateLookupTable0(host);
+        else
+            instance.endLookup(host);
+    }
+
+    /*
+     * Looks the host up again on behalf of the cache, which serves the
+     * stale entry meanwhile.
+     */
+    private static void refreshCachedAddresses(String host) {
+        try {
+            InetAddress.getAddressesFromNameService(host, null);
+        } catch (UnknownHostException e) {
+            // cached as a negative entry
+        }
+    }
+}
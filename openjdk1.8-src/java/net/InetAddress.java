@@ -729,7 +729,7 @@ class InetAddress implements java.io.Serializable {
     /*
      * Cached addresses - our own litle nis, not!
      */
-    private static Cache addressCache = new Cache(Cache.Type.Positive);
+    static Cache addressCache = new Cache(Cache.Type.Positive);
 
     private static Cache negativeCache = new Cache(Cache.Type.Negative);
 
@@ -858,7 +858,7 @@ class InetAddress implements java.io.Serializable {
      * Initialize cache and insert anyLocalAddress into the
      * unknown array with no expiry.
      */
-    private static void cacheInitIfNeeded() {
+    static void cacheInitIfNeeded() {
         assert Thread.holdsLock(addressCache);
         if (addressCacheInit) {
             return;
@@ -875,9 +875,9 @@ class InetAddress implements java.io.Serializable {
     /*
      * Cache the given hostname and addresses.
      */
-    private static void cacheAddresses(String hostname,
-                                       InetAddress[] addresses,
-                                       boolean success) {
+    static void cacheAddresses0(String hostname,
+                                InetAddress[] addresses,
+                                boolean success) {
         hostname = hostname.toLowerCase();
         synchronized (addressCache) {
             cacheInitIfNeeded();
@@ -893,7 +893,7 @@ class InetAddress implements java.io.Serializable {
      * Lookup hostname in cache (positive & negative cache). If
      * found return addresses, null if not found.
      */
-    private static InetAddress[] getCachedAddresses(String hostname) {
+    static InetAddress[] getCachedAddresses0(String hostname) {
         hostname = hostname.toLowerCase();
 
         // search both positive & negative caches
@@ -1269,7 +1269,7 @@ class InetAddress implements java.io.Serializable {
             }
         }
 
-        InetAddress[] addresses = getCachedAddresses(host);
+        InetAddress[] addresses = AddressCache.getCachedAddresses(host);
 
         /* If no entry in cache, then do the host lookup */
         if (addresses == null) {
@@ -1282,7 +1282,7 @@ class InetAddress implements java.io.Serializable {
         return addresses.clone();
     }
 
-    private static InetAddress[] getAddressesFromNameService(String host, InetAddress reqAddr)
+    static InetAddress[] getAddressesFromNameService(String host, InetAddress reqAddr)
         throws UnknownHostException
     {
         InetAddress[] addresses = null;
@@ -1307,7 +1307,7 @@ class InetAddress implements java.io.Serializable {
         //         it should add the host in the
         //         lookupTable and return null so the
         //         following code would do  a lookup itself.
-        if ((addresses = checkLookupTable(host)) == null) {
+        if ((addresses = AddressCache.checkLookupTable(host)) == null) {
             try {
                 // This is the first thread which looks up the addresses
                 // this host or the cache entry for this host has been
@@ -1359,7 +1359,7 @@ class InetAddress implements java.io.Serializable {
                     }
                 }
                 // Cache the address.
-                cacheAddresses(host, addresses, success);
+                AddressCache.cacheAddresses(host, addresses, success);
 
                 if (!success && ex != null)
                     throw ex;
@@ -1367,7 +1367,7 @@ class InetAddress implements java.io.Serializable {
             } finally {
                 // Delete host from the lookupTable and notify
                 // all threads waiting on the lookupTable monitor.
-                updateLookupTable(host);
+                AddressCache.updateLookupTable(host);
             }
         }
 
@@ -1375,7 +1375,7 @@ class InetAddress implements java.io.Serializable {
     }
 
 
-    private static InetAddress[] checkLookupTable(String host) {
+    static InetAddress[] checkLookupTable0(String host) {
         synchronized (lookupTable) {
             // If the host isn't in the lookupTable, add it in the
             // lookuptable and return null. The caller should do
@@ -1400,7 +1400,7 @@ class InetAddress implements java.io.Serializable {
         // the host. This thread should retry to get the addresses
         // from the addressCache. If it doesn't get the addresses from
         // the cache, it will try to look up the addresses itself.
-        InetAddress[] addresses = getCachedAddresses(host);
+        InetAddress[] addresses = AddressCache.getCachedAddresses(host);
         if (addresses == null) {
             synchronized (lookupTable) {
                 lookupTable.put(host, null);
@@ -1411,7 +1411,7 @@ class InetAddress implements java.io.Serializable {
         return addresses;
     }
 
-    private static void updateLookupTable(String host) {
+    static void updateLookupTable0(String host) {
         synchronized (lookupTable) {
             lookupTable.remove(host);
             lookupTable.notifyAll();
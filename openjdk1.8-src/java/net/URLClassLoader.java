@@ -362,7 +362,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
                 new PrivilegedExceptionAction<Class<?>>() {
                     public Class<?> run() throws ClassNotFoundException {
                         String path = name.replace('.', '/').concat(".class");
-                        Resource res = ucp.getResource(path, false);
+                        Resource res = sun.misc.ClassDataArchive.getResource(ucp, path);
                         if (res != null) {
                             try {
                                 return defineClass(name, res);
@@ -459,7 +459,7 @@ public class URLClassLoader extends SecureClassLoader implements Closeable {
             sun.misc.PerfCounter.getReadClassBytesTime().addElapsedTimeFrom(t0);
             return defineClass(name, bb, cs);
         } else {
-            byte[] b = res.getBytes();
+            byte[] b = sun.misc.ClassDataArchive.record(ucp, name, url, res);
             // must read certificates AFTER reading bytes.
             CodeSigner[] signers = res.getCodeSigners();
             CodeSource cs = new CodeSource(url, signers);
@@ -2075,4 +2075,515 @@ public abstract class ByteBuffer
      */
     public abstract DoubleBuffer asDoubleBuffer();
 
+
+
+    // -- Bulk absolute get/put of primitive arrays --
+
+    /**
+     * Checks that the given number of elements, each of <tt>(1 &lt;&lt;
+     * scale)</tt> bytes, fit in this buffer starting at the given index.
+     *
+     * @return  The index
+     */
+    final int checkBulkIndex(int index, int length, int scale) { // package-private
+        if ((index < 0) || (length < 0)
+            || ((long)length << scale) > (long)(limit() - index))
+            throw new IndexOutOfBoundsException();
+        return index;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading char values.
+     *
+     * <p> This method transfers <tt>length</tt> char values, each composed of
+     * two bytes according to the current byte order, from this buffer into
+     * the given array.  It behaves in exactly the same way as {@link
+     * #getLongs getLongs} but for char values.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     * @param  dst
+     *         The array into which values are to be written
+     * @param  offset
+     *         The offset within the array of the first value to be written
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 2</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getChars(int index, char[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 1);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 2)
+            dst[i] = getChar(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing char values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> char values from the given
+     * array into this buffer, each written as two bytes according to the current
+     * byte order.  It behaves in exactly the same way as {@link #putLongs
+     * putLongs} but for char values.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     * @param  src
+     *         The array from which values are to be read
+     * @param  offset
+     *         The offset within the array of the first value to be read
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 2</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putChars(int index, char[] src, int offset, int length) {
+        checkBulkIndex(index, length, 1);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 2)
+            putChar(index, src[i]);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading short values.
+     *
+     * <p> This method transfers <tt>length</tt> short values, each composed of
+     * two bytes according to the current byte order, from this buffer into
+     * the given array.  It behaves in exactly the same way as {@link
+     * #getLongs getLongs} but for short values.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     * @param  dst
+     *         The array into which values are to be written
+     * @param  offset
+     *         The offset within the array of the first value to be written
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 2</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getShorts(int index, short[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 1);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 2)
+            dst[i] = getShort(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing short values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> short values from the given
+     * array into this buffer, each written as two bytes according to the current
+     * byte order.  It behaves in exactly the same way as {@link #putLongs
+     * putLongs} but for short values.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     * @param  src
+     *         The array from which values are to be read
+     * @param  offset
+     *         The offset within the array of the first value to be read
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 2</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putShorts(int index, short[] src, int offset, int length) {
+        checkBulkIndex(index, length, 1);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 2)
+            putShort(index, src[i]);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading int values.
+     *
+     * <p> This method transfers <tt>length</tt> int values, each composed of
+     * four bytes according to the current byte order, from this buffer into
+     * the given array.  It behaves in exactly the same way as {@link
+     * #getLongs getLongs} but for int values.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     * @param  dst
+     *         The array into which values are to be written
+     * @param  offset
+     *         The offset within the array of the first value to be written
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 4</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getInts(int index, int[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 2);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 4)
+            dst[i] = getInt(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing int values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> int values from the given
+     * array into this buffer, each written as four bytes according to the current
+     * byte order.  It behaves in exactly the same way as {@link #putLongs
+     * putLongs} but for int values.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     * @param  src
+     *         The array from which values are to be read
+     * @param  offset
+     *         The offset within the array of the first value to be read
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 4</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putInts(int index, int[] src, int offset, int length) {
+        checkBulkIndex(index, length, 2);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 4)
+            putInt(index, src[i]);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading long values.
+     *
+     * <p> This method transfers <tt>length</tt> long values from this buffer
+     * into the given array, starting at the given index and at the given
+     * offset in the array.  Each value is composed of eight bytes according
+     * to the current byte order, exactly as if by the {@link #getLong(int)}
+     * method.  An invocation of this method of the form
+     * <tt>src.getLongs(index,&nbsp;dst,&nbsp;off,&nbsp;len)</tt> has exactly
+     * the same effect as the loop
+     *
+     * <pre>{@code
+     *     for (int i = off; i < off + len; i++, index += 8)
+     *         dst[i] = src.getLong(index); }</pre>
+     *
+     * except that it first checks that the whole range is valid, and it is
+     * potentially much more efficient.  This buffer's position, limit and
+     * mark are not modified.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     *
+     * @param  dst
+     *         The array into which values are to be written
+     *
+     * @param  offset
+     *         The offset within the array of the first value to be written;
+     *         must be non-negative and no larger than <tt>dst.length</tt>
+     *
+     * @param  length
+     *         The number of values to be transferred; must be non-negative
+     *         and no larger than <tt>dst.length - offset</tt>
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 8</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getLongs(int index, long[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 3);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 8)
+            dst[i] = getLong(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing long values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> long values from the given
+     * array into this buffer, starting at the given offset in the array and
+     * at the given index.  Each value is written as eight bytes according to
+     * the current byte order, exactly as if by the {@link #putLong(int,long)}
+     * method.  An invocation of this method of the form
+     * <tt>dst.putLongs(index,&nbsp;src,&nbsp;off,&nbsp;len)</tt> has exactly
+     * the same effect as the loop
+     *
+     * <pre>{@code
+     *     for (int i = off; i < off + len; i++, index += 8)
+     *         dst.putLong(index, src[i]); }</pre>
+     *
+     * except that it first checks that the whole range is valid, and it is
+     * potentially much more efficient.  This buffer's position, limit and
+     * mark are not modified.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     *
+     * @param  src
+     *         The array from which values are to be read
+     *
+     * @param  offset
+     *         The offset within the array of the first value to be read;
+     *         must be non-negative and no larger than <tt>src.length</tt>
+     *
+     * @param  length
+     *         The number of values to be transferred; must be non-negative
+     *         and no larger than <tt>src.length - offset</tt>
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 8</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putLongs(int index, long[] src, int offset, int length) {
+        checkBulkIndex(index, length, 3);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 8)
+            putLong(index, src[i]);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading float values.
+     *
+     * <p> This method transfers <tt>length</tt> float values, each composed of
+     * four bytes according to the current byte order, from this buffer into
+     * the given array.  It behaves in exactly the same way as {@link
+     * #getLongs getLongs} but for float values.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     * @param  dst
+     *         The array into which values are to be written
+     * @param  offset
+     *         The offset within the array of the first value to be written
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 4</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getFloats(int index, float[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 2);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 4)
+            dst[i] = getFloat(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing float values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> float values from the given
+     * array into this buffer, each written as four bytes according to the current
+     * byte order.  It behaves in exactly the same way as {@link #putLongs
+     * putLongs} but for float values.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     * @param  src
+     *         The array from which values are to be read
+     * @param  offset
+     *         The offset within the array of the first value to be read
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 4</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putFloats(int index, float[] src, int offset, int length) {
+        checkBulkIndex(index, length, 2);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 4)
+            putFloat(index, src[i]);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>get</i> method for reading double values.
+     *
+     * <p> This method transfers <tt>length</tt> double values, each composed of
+     * eight bytes according to the current byte order, from this buffer into
+     * the given array.  It behaves in exactly the same way as {@link
+     * #getLongs getLongs} but for double values.
+     *
+     * @param  index
+     *         The index in this buffer of the first byte of the first value
+     * @param  dst
+     *         The array into which values are to be written
+     * @param  offset
+     *         The offset within the array of the first value to be written
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 8</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @since 1.8
+     */
+    public ByteBuffer getDoubles(int index, double[] dst, int offset, int length) {
+        checkBulkIndex(index, length, 3);
+        checkBounds(offset, length, dst.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 8)
+            dst[i] = getDouble(index);
+        return this;
+    }
+
+    /**
+     * Absolute bulk <i>put</i> method for writing double values&nbsp;&nbsp;<i>(optional
+     * operation)</i>.
+     *
+     * <p> This method transfers <tt>length</tt> double values from the given
+     * array into this buffer, each written as eight bytes according to the current
+     * byte order.  It behaves in exactly the same way as {@link #putLongs
+     * putLongs} but for double values.
+     *
+     * @param  index
+     *         The index in this buffer at which the first byte of the first
+     *         value will be written
+     * @param  src
+     *         The array from which values are to be read
+     * @param  offset
+     *         The offset within the array of the first value to be read
+     * @param  length
+     *         The number of values to be transferred
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>index</tt> is negative, if fewer than
+     *          <tt>length * 8</tt> bytes remain in this buffer after
+     *          <tt>index</tt>, or if the preconditions on the
+     *          <tt>offset</tt> and <tt>length</tt> parameters do not hold
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this buffer is read-only
+     *
+     * @since 1.8
+     */
+    public ByteBuffer putDoubles(int index, double[] src, int offset, int length) {
+        checkBulkIndex(index, length, 3);
+        checkBounds(offset, length, src.length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++, index += 8)
+            putDouble(index, src[i]);
+        return this;
+    }
+
 }
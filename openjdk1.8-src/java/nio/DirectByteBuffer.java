@@ -198,7 +198,7 @@ class DirectByteBuffer
         cleaner = null;
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -1030,4 +1030,198 @@ class DirectByteBuffer
         }
     }
 
+
+
+    // -- Bulk absolute get/put of primitive arrays --
+
+    // Values in the native byte order are copied with Unsafe.copyMemory;
+    // otherwise the Bits natives swap the bytes of each value as they copy.
+    // Short transfers fall back to the element-wise loop of ByteBuffer.
+
+    public ByteBuffer getChars(int index, char[] dst, int offset, int length) {
+        if (((long)length << 1) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getChars(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_CHAR_BASE_OFFSET,
+                             (long)offset << 1,
+                             (long)length << 1);
+        else
+            Bits.copyToCharArray(a, dst,
+                                 (long)offset << 1,
+                                 (long)length << 1);
+        return this;
+    }
+
+    public ByteBuffer putChars(int index, char[] src, int offset, int length) {
+        if (((long)length << 1) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putChars(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_CHAR_BASE_OFFSET,
+                               (long)offset << 1, a,
+                               (long)length << 1);
+        else
+            Bits.copyFromCharArray(src, (long)offset << 1, a,
+                                   (long)length << 1);
+        return this;
+    }
+
+    public ByteBuffer getShorts(int index, short[] dst, int offset, int length) {
+        if (((long)length << 1) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getShorts(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_SHORT_BASE_OFFSET,
+                             (long)offset << 1,
+                             (long)length << 1);
+        else
+            Bits.copyToShortArray(a, dst,
+                                  (long)offset << 1,
+                                  (long)length << 1);
+        return this;
+    }
+
+    public ByteBuffer putShorts(int index, short[] src, int offset, int length) {
+        if (((long)length << 1) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putShorts(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_SHORT_BASE_OFFSET,
+                               (long)offset << 1, a,
+                               (long)length << 1);
+        else
+            Bits.copyFromShortArray(src, (long)offset << 1, a,
+                                    (long)length << 1);
+        return this;
+    }
+
+    public ByteBuffer getInts(int index, int[] dst, int offset, int length) {
+        if (((long)length << 2) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getInts(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_INT_BASE_OFFSET,
+                             (long)offset << 2,
+                             (long)length << 2);
+        else
+            Bits.copyToIntArray(a, dst,
+                                (long)offset << 2,
+                                (long)length << 2);
+        return this;
+    }
+
+    public ByteBuffer putInts(int index, int[] src, int offset, int length) {
+        if (((long)length << 2) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putInts(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_INT_BASE_OFFSET,
+                               (long)offset << 2, a,
+                               (long)length << 2);
+        else
+            Bits.copyFromIntArray(src, (long)offset << 2, a,
+                                  (long)length << 2);
+        return this;
+    }
+
+    public ByteBuffer getLongs(int index, long[] dst, int offset, int length) {
+        if (((long)length << 3) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getLongs(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_LONG_BASE_OFFSET,
+                             (long)offset << 3,
+                             (long)length << 3);
+        else
+            Bits.copyToLongArray(a, dst,
+                                 (long)offset << 3,
+                                 (long)length << 3);
+        return this;
+    }
+
+    public ByteBuffer putLongs(int index, long[] src, int offset, int length) {
+        if (((long)length << 3) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putLongs(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_LONG_BASE_OFFSET,
+                               (long)offset << 3, a,
+                               (long)length << 3);
+        else
+            Bits.copyFromLongArray(src, (long)offset << 3, a,
+                                   (long)length << 3);
+        return this;
+    }
+
+    public ByteBuffer getFloats(int index, float[] dst, int offset, int length) {
+        if (((long)length << 2) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getFloats(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_FLOAT_BASE_OFFSET,
+                             (long)offset << 2,
+                             (long)length << 2);
+        else
+            Bits.copyToIntArray(a, dst,
+                                (long)offset << 2,
+                                (long)length << 2);
+        return this;
+    }
+
+    public ByteBuffer putFloats(int index, float[] src, int offset, int length) {
+        if (((long)length << 2) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putFloats(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_FLOAT_BASE_OFFSET,
+                               (long)offset << 2, a,
+                               (long)length << 2);
+        else
+            Bits.copyFromIntArray(src, (long)offset << 2, a,
+                                  (long)length << 2);
+        return this;
+    }
+
+    public ByteBuffer getDoubles(int index, double[] dst, int offset, int length) {
+        if (((long)length << 3) <= Bits.JNI_COPY_TO_ARRAY_THRESHOLD)
+            return super.getDoubles(index, dst, offset, length);
+        long a = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, dst.length);
+        if (nativeByteOrder)
+            Bits.copyToArray(a, dst, Unsafe.ARRAY_DOUBLE_BASE_OFFSET,
+                             (long)offset << 3,
+                             (long)length << 3);
+        else
+            Bits.copyToLongArray(a, dst,
+                                 (long)offset << 3,
+                                 (long)length << 3);
+        return this;
+    }
+
+    public ByteBuffer putDoubles(int index, double[] src, int offset, int length) {
+        if (((long)length << 3) <= Bits.JNI_COPY_FROM_ARRAY_THRESHOLD)
+            return super.putDoubles(index, src, offset, length);
+        long a = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, src.length);
+        if (nativeByteOrder)
+            Bits.copyFromArray(src, Unsafe.ARRAY_DOUBLE_BASE_OFFSET,
+                               (long)offset << 3, a,
+                               (long)length << 3);
+        else
+            Bits.copyFromLongArray(src, (long)offset << 3, a,
+                                   (long)length << 3);
+        return this;
+    }
+
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio;
+
+import sun.misc.Cleaner;
+import sun.nio.ch.DirectBuffer;
+
+
+/**
+ * A pool of direct byte buffers with explicit release.
+ *
+ * <p> Each call to {@link ByteBuffer#allocateDirect allocateDirect}
+ * reserves native memory. When the configured maximum is reached the
+ * reservation triggers a garbage collection and waits for {@link Cleaner}s
+ * to free unreachable buffers. A pool reserves memory in large slabs, cuts
+ * them into buffers of a few size classes, and takes buffers back when they
+ * are {@link #release released}. Under a steady allocation rate it reaches
+ * a fixed footprint and no longer allocates at all.
+ *
+ * <p> Requests are rounded up to a power-of-two size class between
+ * {@value #MIN_POOLED_CAPACITY} and {@value #MAX_POOLED_CAPACITY} bytes.
+ * Each thread keeps a small cache of released buffers, holding at most
+ * 256 KB, and a shared free list per size class backs those caches.
+ * Requests above the largest size class get memory of their own, and
+ * releasing such a buffer frees that memory immediately.
+ *
+ * <p> The buffers returned by {@link #allocate allocate} have a
+ * capacity of at least the requested size, a limit equal to the
+ * requested size, a position of zero, and big-endian byte order. Their
+ * contents are undefined. Only those buffers may be released to the
+ * pool; slices, duplicates and views of them are rejected. Once
+ * released, a buffer, and any view, slice or duplicate of it, must no
+ * longer be used, and it must not be released twice.
+ *
+ * <p> This class is safe for use by multiple concurrent threads.
+ */
+
+public final class DirectByteBufferPool {
+
+    /** The smallest size class, in bytes. */
+    public static final int MIN_POOLED_CAPACITY = 1 << 10;
+
+    /** The largest size class, in bytes. */
+    public static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+    private static final int MIN_SHIFT = 10;
+    private static final int MAX_SHIFT = 20;
+    private static final int CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+
+    // Size of the slabs that the smaller size classes are cut from
+    private static final int SLAB_SIZE = 1 << 20;
+
+    // Buffers per size class held in each thread's cache
+    private static final int THREAD_CACHE_SIZE = 8;
+
+    // Bound on the total capacity of the buffers in one thread's cache
+    private static final int THREAD_CACHE_BYTES = 256 << 10;
+
+    /*
+     * Memory that pooled buffers are cut from. Each buffer handed out has
+     * its slab as attachment, which keeps the memory reachable as long as
+     * the buffer is, and tells release which buffers belong to the pool.
+     */
+    private static final class Slab {
+        final DirectByteBufferPool pool;
+        final ByteBuffer memory;
+
+        Slab(DirectByteBufferPool pool, ByteBuffer memory) {
+            this.pool = pool;
+            this.memory = memory;
+        }
+
+        ByteBuffer buffer(int offset, int cap) {
+            long addr = ((DirectBuffer)memory).address() + offset;
+            return new DirectByteBuffer(addr, cap, this);
+        }
+    }
+
+    // Shared free list of one size class
+    private static final class FreeList {
+        private ByteBuffer[] buffers = new ByteBuffer[16];
+        private int count;
+
+        synchronized ByteBuffer poll() {
+            if (count == 0)
+                return null;
+            ByteBuffer bb = buffers[--count];
+            buffers[count] = null;
+            return bb;
+        }
+
+        synchronized void push(ByteBuffer bb) {
+            if (count == buffers.length) {
+                ByteBuffer[] a = new ByteBuffer[count * 2];
+                System.arraycopy(buffers, 0, a, 0, count);
+                buffers = a;
+            }
+            buffers[count++] = bb;
+        }
+    }
+
+    // Per-thread cache, one small stack per size class
+    private static final class ThreadCache {
+        final ByteBuffer[][] stacks = new ByteBuffer[CLASSES][THREAD_CACHE_SIZE];
+        final int[] counts = new int[CLASSES];
+        int bytes;      // total capacity of the cached buffers
+    }
+
+    private final FreeList[] freeLists = new FreeList[CLASSES];
+    private final ThreadLocal<ThreadCache> threadCache =
+        new ThreadLocal<ThreadCache>() {
+            @Override
+            protected ThreadCache initialValue() {
+                return new ThreadCache();
+            }
+        };
+
+    // Bytes held in the shared free lists, and the bound on that amount
+    private final long maxRetainedBytes;
+    private long retainedBytes;     // guarded by this
+
+    /**
+     * Creates a new pool.
+     *
+     * @param  maxRetainedBytes
+     *         The maximum number of bytes that the shared free lists may
+     *         hold, on top of at most 256 KB cached by each thread that
+     *         uses the pool. Buffers released beyond that are dropped and
+     *         their memory is reclaimed by the garbage collector.
+     *
+     * @throws IllegalArgumentException
+     *         If {@code maxRetainedBytes} is negative
+     */
+    public DirectByteBufferPool(long maxRetainedBytes) {
+        if (maxRetainedBytes < 0)
+            throw new IllegalArgumentException("Negative maxRetainedBytes");
+        this.maxRetainedBytes = maxRetainedBytes;
+        for (int i = 0; i < CLASSES; i++)
+            freeLists[i] = new FreeList();
+    }
+
+    // Index of the smallest size class holding size bytes, -1 if none
+    private static int sizeClass(int size) {
+        if (size > MAX_POOLED_CAPACITY)
+            return -1;
+        if (size <= MIN_POOLED_CAPACITY)
+            return 0;
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    // Index of the size class of a buffer from this pool, -1 if none
+    private static int sizeClassOf(ByteBuffer bb) {
+        int cap = bb.capacity();
+        if (cap < MIN_POOLED_CAPACITY || cap > MAX_POOLED_CAPACITY ||
+            Integer.bitCount(cap) != 1)
+            return -1;
+        return Integer.numberOfTrailingZeros(cap) - MIN_SHIFT;
+    }
+
+    /**
+     * Returns a direct byte buffer with room for at least {@code size}
+     * bytes.
+     *
+     * @param  size
+     *         The number of bytes needed
+     *
+     * @return  A buffer whose limit is {@code size}
+     *
+     * @throws IllegalArgumentException
+     *         If {@code size} is negative
+     */
+    public ByteBuffer allocate(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size: " + size);
+        int sc = sizeClass(size);
+        if (sc < 0) {
+            Slab own = new Slab(this, ByteBuffer.allocateDirect(size));
+            return own.buffer(0, size);
+        }
+
+        ThreadCache tc = threadCache.get();
+        ByteBuffer bb;
+        int n = tc.counts[sc];
+        if (n > 0) {
+            bb = tc.stacks[sc][--n];
+            tc.stacks[sc][n] = null;
+            tc.counts[sc] = n;
+            tc.bytes -= bb.capacity();
+        } else if ((bb = freeLists[sc].poll()) != null) {
+            synchronized (this) {
+                retainedBytes -= bb.capacity();
+            }
+        } else {
+            bb = carve(sc, tc);
+        }
+        bb.clear().limit(size);
+        bb.order(ByteOrder.BIG_ENDIAN);
+        return bb;
+    }
+
+    /*
+     * Allocates a slab for the given size class and cuts it into buffers,
+     * returning the first and caching the rest in the thread's cache.
+     */
+    private ByteBuffer carve(int sc, ThreadCache tc) {
+        int cap = 1 << (sc + MIN_SHIFT);
+        int slabSize = Math.max(cap, SLAB_SIZE);
+        Slab slab = new Slab(this, ByteBuffer.allocateDirect(slabSize));
+        int count = slabSize / cap;
+        ByteBuffer first = null;
+        for (int i = 0; i < count; i++) {
+            ByteBuffer bb = slab.buffer(i * cap, cap);
+            if (first == null)
+                first = bb;
+            else
+                cache(sc, bb, tc);
+        }
+        return first;
+    }
+
+    /**
+     * Returns a buffer obtained from {@link #allocate allocate} to this
+     * pool. The buffer is kept for reuse or, if it is larger than the
+     * largest size class, its memory is freed.
+     *
+     * @param  bb
+     *         The buffer to release
+     *
+     * @throws IllegalArgumentException
+     *         If the buffer was not returned by {@code allocate} of this
+     *         pool
+     */
+    public void release(ByteBuffer bb) {
+        if (!bb.isDirect())
+            throw new IllegalArgumentException("Not a direct buffer");
+        if (bb.isReadOnly())
+            throw new IllegalArgumentException("Read-only buffer");
+        Object att = ((DirectBuffer)bb).attachment();
+        if (!(att instanceof Slab) || ((Slab)att).pool != this)
+            throw new IllegalArgumentException("Not allocated from this pool");
+        int sc = sizeClassOf(bb);
+        if (sc < 0) {
+            free(((Slab)att).memory);
+            return;
+        }
+        cache(sc, bb, threadCache.get());
+    }
+
+    private void cache(int sc, ByteBuffer bb, ThreadCache tc) {
+        int n = tc.counts[sc];
+        if (n < THREAD_CACHE_SIZE &&
+            tc.bytes + bb.capacity() <= THREAD_CACHE_BYTES) {
+            tc.stacks[sc][n] = bb;
+            tc.counts[sc] = n + 1;
+            tc.bytes += bb.capacity();
+            return;
+        }
+        synchronized (this) {
+            if (retainedBytes + bb.capacity() > maxRetainedBytes) {
+                // Drop it; its memory is freed once no buffer of its
+                // slab is reachable
+                return;
+            }
+            retainedBytes += bb.capacity();
+        }
+        freeLists[sc].push(bb);
+    }
+
+    private static void free(ByteBuffer bb) {
+        Cleaner cl = ((DirectBuffer)bb).cleaner();
+        if (cl != null)
+            cl.clean();
+    }
+
+    /**
+     * Returns the number of bytes currently held in the shared free lists
+     * of this pool, not counting the per-thread caches, which hold at most
+     * 256 KB each.
+     *
+     * @return  The number of retained bytes
+     */
+    public synchronized long retainedBytes() {
+        return retainedBytes;
+    }
+}
@@ -1030,4 +1030,32 @@ class DirectByteBufferR
         }
     }
 
+
+
+    // -- Bulk absolute put of primitive arrays --
+
+    public ByteBuffer putChars(int index, char[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public ByteBuffer putShorts(int index, short[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public ByteBuffer putInts(int index, int[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public ByteBuffer putLongs(int index, long[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public ByteBuffer putFloats(int index, float[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
+    public ByteBuffer putDoubles(int index, double[] src, int offset, int length) {
+        throw new ReadOnlyBufferException();
+    }
+
 }
@@ -198,7 +198,7 @@ class DirectCharBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
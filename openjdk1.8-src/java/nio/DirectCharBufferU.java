@@ -198,7 +198,7 @@ class DirectCharBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
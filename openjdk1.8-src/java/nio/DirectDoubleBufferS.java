@@ -198,7 +198,7 @@ class DirectDoubleBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
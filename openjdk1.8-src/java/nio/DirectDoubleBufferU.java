@@ -198,7 +198,7 @@ class DirectDoubleBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -198,7 +198,7 @@ class DirectFloatBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
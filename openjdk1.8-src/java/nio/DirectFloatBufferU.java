@@ -198,7 +198,7 @@ class DirectFloatBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -198,7 +198,7 @@ class DirectIntBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -198,7 +198,7 @@ class DirectIntBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -198,7 +198,7 @@ class DirectLongBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
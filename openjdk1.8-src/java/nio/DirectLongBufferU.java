@@ -198,7 +198,7 @@ class DirectLongBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -198,7 +198,7 @@ class DirectShortBufferS
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
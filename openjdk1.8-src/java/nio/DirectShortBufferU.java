@@ -198,7 +198,7 @@ class DirectShortBufferU
 
 
         att = db;
-
+        MappedByteBuffer.trackDerived(db, this);
 
 
     }
@@ -597,5 +597,251 @@ class HeapByteBuffer
 
 
 
+
+    // -- Bulk absolute get/put of primitive arrays --
+
+    // Big- and little-endian decoding and encoding of the bytes at index j of
+    // the given array; used by the bulk methods so that the byte order is
+    // tested once per call rather than once per value.
+
+    private static short getShortB(byte[] a, int j) {
+        return (short)((a[j] << 8) | (a[j + 1] & 0xff));
+    }
+
+    private static short getShortL(byte[] a, int j) {
+        return (short)((a[j + 1] << 8) | (a[j] & 0xff));
+    }
+
+    private static int getIntB(byte[] a, int j) {
+        return (a[j] << 24) | ((a[j + 1] & 0xff) << 16)
+            | ((a[j + 2] & 0xff) << 8) | (a[j + 3] & 0xff);
+    }
+
+    private static int getIntL(byte[] a, int j) {
+        return (a[j + 3] << 24) | ((a[j + 2] & 0xff) << 16)
+            | ((a[j + 1] & 0xff) << 8) | (a[j] & 0xff);
+    }
+
+    private static long getLongB(byte[] a, int j) {
+        return ((long)getIntB(a, j) << 32) | (getIntB(a, j + 4) & 0xffffffffL);
+    }
+
+    private static long getLongL(byte[] a, int j) {
+        return ((long)getIntL(a, j + 4) << 32) | (getIntL(a, j) & 0xffffffffL);
+    }
+
+    private static void putShortB(byte[] a, int j, short x) {
+        a[j    ] = (byte)(x >> 8);
+        a[j + 1] = (byte)x;
+    }
+
+    private static void putShortL(byte[] a, int j, short x) {
+        a[j    ] = (byte)x;
+        a[j + 1] = (byte)(x >> 8);
+    }
+
+    private static void putIntB(byte[] a, int j, int x) {
+        a[j    ] = (byte)(x >> 24);
+        a[j + 1] = (byte)(x >> 16);
+        a[j + 2] = (byte)(x >> 8);
+        a[j + 3] = (byte)x;
+    }
+
+    private static void putIntL(byte[] a, int j, int x) {
+        a[j    ] = (byte)x;
+        a[j + 1] = (byte)(x >> 8);
+        a[j + 2] = (byte)(x >> 16);
+        a[j + 3] = (byte)(x >> 24);
+    }
+
+    private static void putLongB(byte[] a, int j, long x) {
+        putIntB(a, j, (int)(x >> 32));
+        putIntB(a, j + 4, (int)x);
+    }
+
+    private static void putLongL(byte[] a, int j, long x) {
+        putIntL(a, j, (int)x);
+        putIntL(a, j + 4, (int)(x >> 32));
+    }
+
+    public ByteBuffer getChars(int index, char[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 2)
+                dst[i] = (char)getShortB(a, j);
+        } else {
+            for (int i = offset; i < end; i++, j += 2)
+                dst[i] = (char)getShortL(a, j);
+        }
+        return this;
+    }
+
+    public ByteBuffer putChars(int index, char[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 2)
+                putShortB(a, j, (short)src[i]);
+        } else {
+            for (int i = offset; i < end; i++, j += 2)
+                putShortL(a, j, (short)src[i]);
+        }
+        return this;
+    }
+
+    public ByteBuffer getShorts(int index, short[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 2)
+                dst[i] = getShortB(a, j);
+        } else {
+            for (int i = offset; i < end; i++, j += 2)
+                dst[i] = getShortL(a, j);
+        }
+        return this;
+    }
+
+    public ByteBuffer putShorts(int index, short[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 1));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 2)
+                putShortB(a, j, src[i]);
+        } else {
+            for (int i = offset; i < end; i++, j += 2)
+                putShortL(a, j, src[i]);
+        }
+        return this;
+    }
+
+    public ByteBuffer getInts(int index, int[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 4)
+                dst[i] = getIntB(a, j);
+        } else {
+            for (int i = offset; i < end; i++, j += 4)
+                dst[i] = getIntL(a, j);
+        }
+        return this;
+    }
+
+    public ByteBuffer putInts(int index, int[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 4)
+                putIntB(a, j, src[i]);
+        } else {
+            for (int i = offset; i < end; i++, j += 4)
+                putIntL(a, j, src[i]);
+        }
+        return this;
+    }
+
+    public ByteBuffer getLongs(int index, long[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 8)
+                dst[i] = getLongB(a, j);
+        } else {
+            for (int i = offset; i < end; i++, j += 8)
+                dst[i] = getLongL(a, j);
+        }
+        return this;
+    }
+
+    public ByteBuffer putLongs(int index, long[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 8)
+                putLongB(a, j, src[i]);
+        } else {
+            for (int i = offset; i < end; i++, j += 8)
+                putLongL(a, j, src[i]);
+        }
+        return this;
+    }
+
+    public ByteBuffer getFloats(int index, float[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 4)
+                dst[i] = Float.intBitsToFloat(getIntB(a, j));
+        } else {
+            for (int i = offset; i < end; i++, j += 4)
+                dst[i] = Float.intBitsToFloat(getIntL(a, j));
+        }
+        return this;
+    }
+
+    public ByteBuffer putFloats(int index, float[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 2));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 4)
+                putIntB(a, j, Float.floatToRawIntBits(src[i]));
+        } else {
+            for (int i = offset; i < end; i++, j += 4)
+                putIntL(a, j, Float.floatToRawIntBits(src[i]));
+        }
+        return this;
+    }
+
+    public ByteBuffer getDoubles(int index, double[] dst, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, dst.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 8)
+                dst[i] = Double.longBitsToDouble(getLongB(a, j));
+        } else {
+            for (int i = offset; i < end; i++, j += 8)
+                dst[i] = Double.longBitsToDouble(getLongL(a, j));
+        }
+        return this;
+    }
+
+    public ByteBuffer putDoubles(int index, double[] src, int offset, int length) {
+        int j = ix(checkBulkIndex(index, length, 3));
+        checkBounds(offset, length, src.length);
+        byte[] a = hb;
+        int end = offset + length;
+        if (bigEndian) {
+            for (int i = offset; i < end; i++, j += 8)
+                putLongB(a, j, Double.doubleToRawLongBits(src[i]));
+        } else {
+            for (int i = offset; i < end; i++, j += 8)
+                putLongL(a, j, Double.doubleToRawLongBits(src[i]));
+        }
+        return this;
+    }
 
 }
@@ -208,4 +208,187 @@ public abstract class MappedByteBuffer
     private native boolean isLoaded0(long address, long length, int pageCount);
     private native void load0(long address, long length);
     private native void force0(FileDescriptor fd, long address, long length);
+
+    // -- Explicit release --
+
+    // Weak references to the slices, duplicates and views derived from this
+    // buffer, directly or indirectly; only maintained for buffers that own
+    // a mapping.  Guarded by the cleaner.
+    private java.util.ArrayList<java.lang.ref.WeakReference<Buffer>> derived;
+
+    // Number of derived entries at which cleared references are next purged
+    private int purgeThreshold = 16;
+
+    // Set once the memory of this buffer has been released
+    private boolean released;
+
+    // Returns the buffer that owns the mapping of the given direct buffer, by
+    // following the chain of attachments, or null if the memory is not a
+    // mapping that can be released explicitly.
+    private static MappedByteBuffer owner(Object ob) {
+        while (ob instanceof sun.nio.ch.DirectBuffer) {
+            sun.nio.ch.DirectBuffer db = (sun.nio.ch.DirectBuffer)ob;
+            if (db.cleaner() != null) {
+                if (ob instanceof MappedByteBuffer
+                    && ((MappedByteBuffer)ob).fd != null)
+                    return (MappedByteBuffer)ob;
+                return null;
+            }
+            ob = db.attachment();
+        }
+        return null;
+    }
+
+    // Invoked by the constructors of direct slices, duplicates and views so
+    // that they can be invalidated when the underlying mapping is released.
+    // Buffers derived from memory that is not mapped are not tracked.
+    //
+    static void trackDerived(Object parent, Buffer buf) { // package-private
+        MappedByteBuffer owner = owner(parent);
+        if (owner == null)
+            return;
+        sun.misc.Cleaner cl = ((sun.nio.ch.DirectBuffer)owner).cleaner();
+        synchronized (cl) {
+            if (owner.released) {
+                buf.truncate();
+                return;
+            }
+            java.util.ArrayList<java.lang.ref.WeakReference<Buffer>> list = owner.derived;
+            if (list == null) {
+                list = new java.util.ArrayList<>();
+                owner.derived = list;
+            } else if (list.size() >= owner.purgeThreshold) {
+                java.util.Iterator<java.lang.ref.WeakReference<Buffer>> it = list.iterator();
+                while (it.hasNext()) {
+                    if (it.next().get() == null)
+                        it.remove();
+                }
+                owner.purgeThreshold = Math.max(16, list.size() * 2);
+            }
+            list.add(new java.lang.ref.WeakReference<Buffer>(buf));
+        }
+    }
+
+    /**
+     * Releases the mapping of this buffer without waiting for it to be
+     * garbage-collected.
+     *
+     * <p> This method may only be invoked on a buffer created by {@link
+     * java.nio.channels.FileChannel#map FileChannel.map}; the memory of a
+     * direct byte buffer allocated by {@link ByteBuffer#allocateDirect
+     * ByteBuffer.allocateDirect} is freed only when the buffer is
+     * garbage-collected.  Before the mapping is released this buffer, and
+     * every slice, duplicate and view buffer derived from it, is truncated to
+     * a capacity of zero so that any subsequent attempt to access its content
+     * throws {@link BufferUnderflowException}, {@link
+     * BufferOverflowException} or {@link IndexOutOfBoundsException} rather
+     * than touching released memory.
+     *
+     * <p> Invoking this method on a buffer that has already been released has
+     * no effect.  The caller must ensure that no other thread is accessing
+     * this buffer, or a buffer derived from it, while it is being released.
+     * </p>
+     *
+     * @throws  UnsupportedOperationException
+     *          If this buffer is not a mapped byte buffer, or if it does not
+     *          own its mapping, for example because it is itself a slice,
+     *          duplicate or view of another buffer
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed and it denies
+     *          {@link RuntimePermission}<tt>("releaseBuffer")</tt>
+     *
+     * @since 1.8
+     */
+    public final void release() {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null)
+            sm.checkPermission(new RuntimePermission("releaseBuffer"));
+        if (!(this instanceof sun.nio.ch.DirectBuffer) || fd == null)
+            throw new UnsupportedOperationException("Not a mapped buffer");
+        sun.misc.Cleaner cl = ((sun.nio.ch.DirectBuffer)this).cleaner();
+        if (cl == null)
+            throw new UnsupportedOperationException("Buffer does not own its mapping");
+        java.util.ArrayList<java.lang.ref.WeakReference<Buffer>> list;
+        synchronized (cl) {
+            if (released)
+                return;
+            released = true;
+            list = derived;
+            derived = null;
+        }
+        truncate();
+        if (list != null) {
+            for (java.lang.ref.WeakReference<Buffer> ref : list) {
+                Buffer buf = ref.get();
+                if (buf != null)
+                    buf.truncate();
+            }
+        }
+        cl.clean();
+    }
+
+    /**
+     * Unmaps this buffer's file region without waiting for the buffer to be
+     * garbage-collected.
+     *
+     * <p> This method behaves exactly as {@link #release release}.  Once
+     * unmapped the address space of the region, and the reference that the
+     * mapping holds to the underlying file, are given back to the operating
+     * system. </p>
+     *
+     * @throws  UnsupportedOperationException
+     *          If this buffer is not a mapped byte buffer, or if it does not
+     *          own its mapping
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed and it denies
+     *          {@link RuntimePermission}<tt>("releaseBuffer")</tt>
+     *
+     * @since 1.8
+     */
+    public final void unmap() {
+        checkMapped();
+        release();
+    }
+
+    /**
+     * Tells whether or not this buffer's memory, or the memory of the buffer
+     * from which it was derived, has been released.
+     *
+     * @return  <tt>true</tt> if this buffer can no longer be accessed because
+     *          its memory has been released
+     *
+     * @since 1.8
+     */
+    public final boolean isReleased() {
+        MappedByteBuffer owner = owner(this);
+        if (owner == null)
+            return false;
+        synchronized (((sun.nio.ch.DirectBuffer)owner).cleaner()) {
+            return owner.released;
+        }
+    }
+
+    /**
+     * Advises the operating system that this buffer's content will be needed
+     * soon.
+     *
+     * <p> Unlike {@link #load load}, this method only initiates read-ahead of
+     * the mapped region and returns without touching, and so waiting for, each
+     * page.  It is therefore suitable for prefetching a region that is about
+     * to be read sequentially. </p>
+     *
+     * @return  This buffer
+     *
+     * @since 1.8
+     */
+    public final MappedByteBuffer prefetch() {
+        checkMapped();
+        if ((address == 0) || (capacity() == 0))
+            return this;
+        long offset = mappingOffset();
+        load0(mappingAddress(offset), mappingLength(offset));
+        return this;
+    }
 }
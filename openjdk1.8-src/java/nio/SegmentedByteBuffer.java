@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * A growable sequence of bytes held in a list of direct byte buffer
+ * segments.
+ *
+ * <p> Bytes are appended to the last segment; when it is full a new segment
+ * is taken from a {@link DirectByteBufferPool}.  Growing therefore never
+ * copies the bytes already written, and the content is never flattened into
+ * a single array unless {@link #toByteArray toByteArray} is invoked.  Since
+ * the segments are direct buffers, the content may be handed to a {@link
+ * GatheringByteChannel} as is, without the channel copying it into a
+ * temporary direct buffer:
+ *
+ * <blockquote><pre>
+ * SegmentedByteBuffer out = new SegmentedByteBuffer();
+ * out.put(header).put(body);
+ * ByteBuffer[] srcs = out.buffers();
+ * while (srcs[srcs.length - 1].hasRemaining())
+ *     channel.write(srcs);
+ * out.close();</pre></blockquote>
+ *
+ * <p> The content may be read back by absolute index, or as a list of buffers
+ * covering any range, with {@link #get(long) get} and {@link #slice slice}.
+ * {@link #asOutputStream asOutputStream} and {@link #asChannel asChannel}
+ * return adapters for code written against streams or channels.
+ *
+ * <p> The buffers returned by {@link #buffers buffers} and {@link #slice
+ * slice} are read-only views of the segments; they must not be used once
+ * this buffer has been {@link #clear cleared} or {@link #close closed}, at
+ * which point the segments are returned to the pool.  Multi-byte values are
+ * written in big-endian byte order.
+ *
+ * <p> Segmented buffers are not safe for use by multiple concurrent
+ * threads.
+ *
+ * @since 1.8
+ */
+
+public final class SegmentedByteBuffer implements AutoCloseable {
+
+    /** The default segment size, in bytes. */
+    public static final int DEFAULT_SEGMENT_SIZE = 8 * 1024;
+
+    // Pool used by buffers created without an explicit pool
+    private static class DefaultPoolHolder {
+        static final DirectByteBufferPool pool =
+            new DirectByteBufferPool(16L * 1024L * 1024L);
+    }
+
+    private final DirectByteBufferPool pool;
+    private final int segmentSize;
+
+    // The segments; all but the last are full
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int count;
+
+    // The last segment, or null if there is none
+    private ByteBuffer tail;
+
+    // Number of bytes in the segments before the last one
+    private long base;
+
+    private boolean closed;
+
+    /**
+     * Creates an empty segmented buffer that takes segments of the default
+     * size from a shared pool.
+     */
+    public SegmentedByteBuffer() {
+        this(DefaultPoolHolder.pool, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an empty segmented buffer.
+     *
+     * @param  pool
+     *         The pool from which segments are taken, and to which they are
+     *         returned when this buffer is cleared or closed
+     *
+     * @param  segmentSize
+     *         The size of each segment, in bytes
+     *
+     * @throws  IllegalArgumentException
+     *          If {@code segmentSize} is not positive
+     */
+    public SegmentedByteBuffer(DirectByteBufferPool pool, int segmentSize) {
+        if (pool == null)
+            throw new NullPointerException();
+        if (segmentSize <= 0)
+            throw new IllegalArgumentException("Segment size must be positive");
+        this.pool = pool;
+        this.segmentSize = segmentSize;
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("Buffer closed");
+    }
+
+    // Returns the last segment, adding a new one if it is full
+    private ByteBuffer tail() {
+        ByteBuffer bb = tail;
+        if (bb != null && bb.hasRemaining())
+            return bb;
+        ensureOpen();
+        if (count == segments.length) {
+            ByteBuffer[] a = new ByteBuffer[count * 2];
+            System.arraycopy(segments, 0, a, 0, count);
+            segments = a;
+        }
+        if (bb != null)
+            base += bb.position();
+        bb = pool.allocate(segmentSize);
+        segments[count++] = bb;
+        tail = bb;
+        return bb;
+    }
+
+    /**
+     * Returns the number of bytes in this buffer.
+     *
+     * @return  The number of bytes written since this buffer was created or
+     *          last cleared
+     */
+    public long size() {
+        return (tail == null) ? 0L : base + tail.position();
+    }
+
+    /**
+     * Appends a byte.
+     *
+     * @param  b
+     *         The byte to append
+     *
+     * @return  This buffer
+     *
+     * @throws  IllegalStateException
+     *          If this buffer has been closed
+     */
+    public SegmentedByteBuffer put(byte b) {
+        tail().put(b);
+        return this;
+    }
+
+    /**
+     * Appends bytes from the given array.
+     *
+     * @param  src
+     *         The array from which bytes are to be read
+     * @param  offset
+     *         The offset within the array of the first byte to be read
+     * @param  length
+     *         The number of bytes to be read
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the {@code offset} and {@code length}
+     *          parameters do not hold
+     * @throws  IllegalStateException
+     *          If this buffer has been closed
+     */
+    public SegmentedByteBuffer put(byte[] src, int offset, int length) {
+        Buffer.checkBounds(offset, length, src.length);
+        while (length > 0) {
+            ByteBuffer bb = tail();
+            int n = Math.min(length, bb.remaining());
+            bb.put(src, offset, n);
+            offset += n;
+            length -= n;
+        }
+        return this;
+    }
+
+    /**
+     * Appends all bytes of the given array.
+     *
+     * @param  src
+     *         The array from which bytes are to be read
+     *
+     * @return  This buffer
+     *
+     * @throws  IllegalStateException
+     *          If this buffer has been closed
+     */
+    public SegmentedByteBuffer put(byte[] src) {
+        return put(src, 0, src.length);
+    }
+
+    /**
+     * Appends the remaining bytes of the given buffer.  Upon return the
+     * buffer's position is equal to its limit.
+     *
+     * @param  src
+     *         The buffer from which bytes are to be read
+     *
+     * @return  This buffer
+     *
+     * @throws  IllegalStateException
+     *          If this buffer has been closed
+     */
+    public SegmentedByteBuffer put(ByteBuffer src) {
+        int lim = src.limit();
+        try {
+            while (src.hasRemaining()) {
+                ByteBuffer bb = tail();
+                int n = Math.min(src.remaining(), bb.remaining());
+                src.limit(src.position() + n);
+                bb.put(src);
+                src.limit(lim);
+            }
+        } finally {
+            src.limit(lim);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a short value in big-endian byte order.
+     *
+     * @param  value
+     *         The value to append
+     *
+     * @return  This buffer
+     */
+    public SegmentedByteBuffer putShort(short value) {
+        ByteBuffer bb = tail();
+        if (bb.remaining() >= 2) {
+            bb.putShort(value);
+            return this;
+        }
+        return put((byte)(value >> 8)).put((byte)value);
+    }
+
+    /**
+     * Appends an int value in big-endian byte order.
+     *
+     * @param  value
+     *         The value to append
+     *
+     * @return  This buffer
+     */
+    public SegmentedByteBuffer putInt(int value) {
+        ByteBuffer bb = tail();
+        if (bb.remaining() >= 4) {
+            bb.putInt(value);
+            return this;
+        }
+        return putShort((short)(value >> 16)).putShort((short)value);
+    }
+
+    /**
+     * Appends a long value in big-endian byte order.
+     *
+     * @param  value
+     *         The value to append
+     *
+     * @return  This buffer
+     */
+    public SegmentedByteBuffer putLong(long value) {
+        ByteBuffer bb = tail();
+        if (bb.remaining() >= 8) {
+            bb.putLong(value);
+            return this;
+        }
+        return putInt((int)(value >> 32)).putInt((int)value);
+    }
+
+    /**
+     * Returns the byte at the given index.
+     *
+     * @param  index
+     *         The index from which the byte will be read
+     *
+     * @return  The byte at the given index
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If {@code index} is negative or not smaller than the size
+     *          of this buffer
+     */
+    public byte get(long index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException();
+        return segments[(int)(index / segmentSize)].get((int)(index % segmentSize));
+    }
+
+    /**
+     * Copies bytes, starting at the given index, into the given array.
+     *
+     * @param  index
+     *         The index of the first byte to copy
+     * @param  dst
+     *         The array into which bytes are to be written
+     * @param  offset
+     *         The offset within the array of the first byte to be written
+     * @param  length
+     *         The number of bytes to copy
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the range is not within this buffer, or if the
+     *          preconditions on the {@code offset} and {@code length}
+     *          parameters do not hold
+     */
+    public SegmentedByteBuffer get(long index, byte[] dst, int offset, int length) {
+        Buffer.checkBounds(offset, length, dst.length);
+        for (ByteBuffer bb : slice(index, length)) {
+            int n = bb.remaining();
+            bb.get(dst, offset, n);
+            offset += n;
+        }
+        return this;
+    }
+
+    /**
+     * Returns read-only buffers covering the given range of this buffer.
+     *
+     * <p> The returned buffers share the content of the segments.  Their
+     * positions and limits are independent, so they may be passed to a
+     * {@link GatheringByteChannel} that consumes them.
+     *
+     * @param  index
+     *         The index of the first byte of the range
+     * @param  length
+     *         The number of bytes in the range
+     *
+     * @return  The buffers, in order, whose remaining bytes make up the
+     *          range
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the range is not within this buffer
+     */
+    public ByteBuffer[] slice(long index, long length) {
+        if (index < 0 || length < 0 || length > size() - index)
+            throw new IndexOutOfBoundsException();
+        if (length == 0)
+            return new ByteBuffer[0];
+        int first = (int)(index / segmentSize);
+        int last = (int)((index + length - 1) / segmentSize);
+        ByteBuffer[] bufs = new ByteBuffer[last - first + 1];
+        long end = index + length;
+        for (int i = first; i <= last; i++) {
+            long start = (long)i * segmentSize;
+            int pos = (int)(Math.max(index, start) - start);
+            int lim = (int)(Math.min(end, start + segmentSize) - start);
+            ByteBuffer bb = segments[i].asReadOnlyBuffer();
+            bb.limit(lim).position(pos);
+            bufs[i - first] = bb;
+        }
+        return bufs;
+    }
+
+    /**
+     * Returns read-only buffers covering the whole content of this buffer.
+     * Equivalent to {@code slice(0, size())}.
+     *
+     * @return  The buffers, in order, whose remaining bytes make up the
+     *          content of this buffer
+     */
+    public ByteBuffer[] buffers() {
+        return slice(0L, size());
+    }
+
+    /**
+     * Writes the content of this buffer, starting at the given index, to the
+     * given channel.  If the channel is a {@link GatheringByteChannel} the
+     * segments are written with as few invocations of its gathering {@code
+     * write} method as possible.  This method returns when all bytes have
+     * been written, or when the channel does not accept any more bytes, as
+     * may happen if it is in non-blocking mode.
+     *
+     * @param  ch
+     *         The channel to write to
+     * @param  index
+     *         The index of the first byte to write
+     *
+     * @return  The number of bytes written, possibly zero
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If {@code index} is negative or greater than the size of
+     *          this buffer
+     * @throws  IOException
+     *          If an I/O error occurs
+     */
+    public long writeTo(WritableByteChannel ch, long index) throws IOException {
+        ByteBuffer[] srcs = slice(index, size() - index);
+        long total = 0;
+        int i = 0;
+        while (i < srcs.length) {
+            long n;
+            if (ch instanceof GatheringByteChannel) {
+                n = ((GatheringByteChannel)ch).write(srcs, i, srcs.length - i);
+            } else {
+                n = ch.write(srcs[i]);
+            }
+            if (n <= 0)
+                break;
+            total += n;
+            while (i < srcs.length && !srcs[i].hasRemaining())
+                i++;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of the content of this buffer in a newly-allocated
+     * byte array.
+     *
+     * @return  The content of this buffer
+     *
+     * @throws  OutOfMemoryError
+     *          If the size of this buffer exceeds the maximum array size
+     */
+    public byte[] toByteArray() {
+        long size = size();
+        if (size > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Required array size too large");
+        byte[] a = new byte[(int)size];
+        get(0L, a, 0, a.length);
+        return a;
+    }
+
+    /**
+     * Discards the content of this buffer.  All segments but the first are
+     * returned to the pool; buffers previously returned by {@link #buffers
+     * buffers} or {@link #slice slice} must no longer be used.
+     *
+     * @return  This buffer
+     */
+    public SegmentedByteBuffer clear() {
+        for (int i = 1; i < count; i++) {
+            pool.release(segments[i]);
+            segments[i] = null;
+        }
+        if (count > 0) {
+            count = 1;
+            tail = segments[0];
+            tail.clear().limit(segmentSize);
+        }
+        base = 0L;
+        return this;
+    }
+
+    /**
+     * Discards the content of this buffer and returns all of its segments
+     * to the pool.  Further attempts to append to this buffer throw {@link
+     * IllegalStateException}.  Invoking this method on a closed buffer has
+     * no effect.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        clear();
+        if (count > 0) {
+            pool.release(segments[0]);
+            segments[0] = null;
+            count = 0;
+            tail = null;
+        }
+        closed = true;
+    }
+
+    /**
+     * Returns an output stream that appends to this buffer.  Closing the
+     * stream has no effect on this buffer.
+     *
+     * @return  An output stream that appends to this buffer
+     */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                put((byte)b);
+            }
+            @Override
+            public void write(byte[] b, int off, int len) {
+                put(b, off, len);
+            }
+        };
+    }
+
+    /**
+     * Returns a channel that appends to this buffer.  Closing the channel has
+     * no effect on this buffer, but further writes to the channel throw
+     * {@link ClosedChannelException}.
+     *
+     * @return  A channel that appends to this buffer
+     */
+    public WritableByteChannel asChannel() {
+        return new WritableByteChannel() {
+            private boolean open = true;
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                if (!open)
+                    throw new ClosedChannelException();
+                int n = src.remaining();
+                put(src);
+                return n;
+            }
+            @Override
+            public boolean isOpen() {
+                return open;
+            }
+            @Override
+            public void close() {
+                open = false;
+            }
+        };
+    }
+}
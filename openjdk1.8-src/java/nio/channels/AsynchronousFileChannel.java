@@ -776,4 +776,161 @@ public abstract class AsynchronousFileChannel
      *          If this channel was not opened for writing
      */
     public abstract Future<Integer> write(ByteBuffer src, long position);
+
+    /**
+     * Reads sequences of bytes from this channel into the given buffers, each
+     * starting at its own file position.
+     *
+     * <p> This method initiates, for each index <i>i</i>, the reading of a
+     * sequence of bytes into <tt>dsts[</tt><i>i</i><tt>]</tt> starting at file
+     * position <tt>positions[</tt><i>i</i><tt>]</tt>, exactly as if by the
+     * {@link #read(ByteBuffer,long,Object,CompletionHandler)} method.  The
+     * reads may be performed concurrently and in any order.  The handler is
+     * invoked once, when all of the reads have completed; its result is the
+     * total number of bytes read.  If any of the reads fails then the handler
+     * is instead invoked with the first failure once the others have
+     * completed.
+     *
+     * <p> Implementations are expected to submit the whole batch at a cost
+     * lower than that of submitting each read separately.  The default
+     * implementation simply invokes {@link
+     * #read(ByteBuffer,long,Object,CompletionHandler) read} for each buffer.
+     *
+     * @param   <A>
+     *          The type of the attachment
+     * @param   positions
+     *          The file positions at which the transfers are to begin;
+     *          must be non-negative
+     * @param   dsts
+     *          The buffers into which bytes are to be transferred; must have
+     *          the same length as {@code positions}
+     * @param   attachment
+     *          The object to attach to the I/O operation; can be {@code null}
+     * @param   handler
+     *          The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the arrays differ in length, if a position is negative or
+     *          if a buffer is read-only
+     * @throws  NonReadableChannelException
+     *          If this channel was not opened for reading
+     *
+     * @since 1.8
+     */
+    public <A> void read(long[] positions,
+                         ByteBuffer[] dsts,
+                         A attachment,
+                         CompletionHandler<Long,? super A> handler)
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        sun.nio.ch.Util.checkBatch(positions, dsts);
+        for (ByteBuffer dst: dsts) {
+            if (dst.isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        BatchHandler<A> batch = new BatchHandler<A>(dsts.length, attachment, handler);
+        for (int i = 0; i < dsts.length; i++)
+            read(dsts[i], positions[i], null, batch);
+    }
+
+    /**
+     * Writes sequences of bytes to this channel from the given buffers, each
+     * starting at its own file position.
+     *
+     * <p> This method initiates, for each index <i>i</i>, the writing of a
+     * sequence of bytes from <tt>srcs[</tt><i>i</i><tt>]</tt> starting at file
+     * position <tt>positions[</tt><i>i</i><tt>]</tt>, exactly as if by the
+     * {@link #write(ByteBuffer,long,Object,CompletionHandler)} method.  The
+     * writes may be performed concurrently and in any order, so the effect of
+     * overlapping writes is unspecified.  The handler is invoked once, when
+     * all of the writes have completed; its result is the total number of
+     * bytes written.  If any of the writes fails then the handler is instead
+     * invoked with the first failure once the others have completed.
+     *
+     * <p> Implementations are expected to submit the whole batch at a cost
+     * lower than that of submitting each write separately.  The default
+     * implementation simply invokes {@link
+     * #write(ByteBuffer,long,Object,CompletionHandler) write} for each buffer.
+     *
+     * @param   <A>
+     *          The type of the attachment
+     * @param   positions
+     *          The file positions at which the transfers are to begin;
+     *          must be non-negative
+     * @param   srcs
+     *          The buffers from which bytes are to be transferred; must have
+     *          the same length as {@code positions}
+     * @param   attachment
+     *          The object to attach to the I/O operation; can be {@code null}
+     * @param   handler
+     *          The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the arrays differ in length, or if a position is negative
+     * @throws  NonWritableChannelException
+     *          If this channel was not opened for writing
+     *
+     * @since 1.8
+     */
+    public <A> void write(long[] positions,
+                          ByteBuffer[] srcs,
+                          A attachment,
+                          CompletionHandler<Long,? super A> handler)
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        sun.nio.ch.Util.checkBatch(positions, srcs);
+        BatchHandler<A> batch = new BatchHandler<A>(srcs.length, attachment, handler);
+        for (int i = 0; i < srcs.length; i++)
+            write(srcs[i], positions[i], null, batch);
+    }
+
+    /**
+     * Completion handler that collects the results of the operations of a
+     * batch and invokes the batch's handler when the last one completes.
+     */
+    private static final class BatchHandler<A>
+        implements CompletionHandler<Integer,Object>
+    {
+        private final java.util.concurrent.atomic.AtomicInteger remaining;
+        private final java.util.concurrent.atomic.AtomicLong total =
+            new java.util.concurrent.atomic.AtomicLong();
+        private final java.util.concurrent.atomic.AtomicReference<Throwable> exc =
+            new java.util.concurrent.atomic.AtomicReference<>();
+        private final A attachment;
+        private final CompletionHandler<Long,? super A> handler;
+
+        BatchHandler(int count, A attachment,
+                     CompletionHandler<Long,? super A> handler)
+        {
+            this.remaining = new java.util.concurrent.atomic.AtomicInteger(count);
+            this.attachment = attachment;
+            this.handler = handler;
+            if (count == 0)
+                handler.completed(0L, attachment);
+        }
+
+        private void done() {
+            if (remaining.decrementAndGet() == 0) {
+                Throwable x = exc.get();
+                if (x == null) {
+                    handler.completed(total.get(), attachment);
+                } else {
+                    handler.failed(x, attachment);
+                }
+            }
+        }
+
+        public void completed(Integer result, Object ignore) {
+            if (result > 0)
+                total.addAndGet(result);
+            done();
+        }
+
+        public void failed(Throwable x, Object ignore) {
+            exc.compareAndSet(null, x);
+            done();
+        }
+    }
 }
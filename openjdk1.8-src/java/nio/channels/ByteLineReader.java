@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.channels;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits the bytes read from a channel into lines, without decoding them.
+ *
+ * <p> A line is considered to be terminated by any one of a line feed
+ * (<tt>'\n'</tt>), a carriage return (<tt>'\r'</tt>), or a carriage return
+ * followed immediately by a line feed.  Since neither byte occurs within a
+ * multi-byte sequence, lines are split correctly for US-ASCII, ISO-8859-1
+ * and UTF-8 input, and for any other charset with the same property.
+ *
+ * <p> Lines and the fields within them are returned as read-only views of
+ * this reader's buffer.  No bytes are copied unless a line straddles a
+ * refill of the buffer, and the same view objects are returned by
+ * successive invocations, so that reading and tokenizing a line allocates
+ * nothing.  A view is only valid until the next invocation of {@link
+ * #readLine readLine}; callers that need to keep a line must copy it.
+ *
+ * <p> The buffer grows as needed to hold the longest line.  The channel
+ * must be in blocking mode.  A line reader is not safe for use by
+ * multiple concurrent threads.
+ *
+ * @since 1.8
+ */
+public final class ByteLineReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel ch;
+
+    // Unread bytes are between the position and the limit
+    private ByteBuffer buf;
+
+    // Read-only views of buf for the current line and field
+    private ByteBuffer lineView;
+    private ByteBuffer fieldView;
+
+    // Start of the next field, and end of the current line
+    private int nextField = -1;
+    private int lineEnd;
+
+    private boolean skipLF;
+    private boolean eof;
+    private boolean closed;
+
+    /**
+     * Creates a line reader with a heap buffer of the default size.
+     *
+     * @param  ch
+     *         The channel from which bytes are to be read
+     */
+    public ByteLineReader(ReadableByteChannel ch) {
+        this(ch, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a line reader that initially uses the given buffer.  The
+     * buffer is cleared, and must not be used by the caller while this
+     * reader is open.  If a line does not fit in the buffer then it is
+     * replaced by a larger buffer of the same kind, heap or direct.
+     *
+     * @param  ch
+     *         The channel from which bytes are to be read
+     *
+     * @param  buf
+     *         The initial buffer
+     *
+     * @throws  IllegalArgumentException
+     *          If the buffer is read-only or has a capacity of zero
+     *
+     * @throws  IllegalBlockingModeException
+     *          If the channel is a selectable channel in non-blocking mode
+     */
+    public ByteLineReader(ReadableByteChannel ch, ByteBuffer buf) {
+        if (ch == null)
+            throw new NullPointerException();
+        if (buf.isReadOnly() || buf.capacity() == 0)
+            throw new IllegalArgumentException();
+        ensureBlocking(ch);
+        this.ch = ch;
+        buf.clear();
+        buf.limit(0);
+        setBuffer(buf);
+    }
+
+    private void setBuffer(ByteBuffer buf) {
+        this.buf = buf;
+        this.lineView = buf.asReadOnlyBuffer();
+        this.fieldView = buf.asReadOnlyBuffer();
+    }
+
+    private static void ensureBlocking(ReadableByteChannel ch) {
+        if ((ch instanceof SelectableChannel) &&
+            !((SelectableChannel)ch).isBlocking())
+            throw new IllegalBlockingModeException();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new ClosedChannelException();
+    }
+
+    /**
+     * Reads more bytes into the buffer, first compacting it or, if it is
+     * full, replacing it with one of twice the size.
+     */
+    private void fill() throws IOException {
+        ByteBuffer bb = buf;
+        if (bb.position() > 0) {
+            bb.compact();
+        } else if (bb.limit() == bb.capacity()) {
+            int cap = bb.capacity();
+            if (cap == Integer.MAX_VALUE)
+                throw new OutOfMemoryError("Line too long");
+            int ncap = (cap <= Integer.MAX_VALUE / 2) ? cap * 2 : Integer.MAX_VALUE;
+            ByteBuffer nbb = bb.isDirect() ? ByteBuffer.allocateDirect(ncap)
+                                           : ByteBuffer.allocate(ncap);
+            nbb.put(bb);
+            setBuffer(bb = nbb);
+        } else {
+            bb.position(bb.limit());
+            bb.limit(bb.capacity());
+        }
+        int n;
+        do {
+            n = ch.read(bb);
+            // a channel switched to non-blocking mode would spin here
+            if (n == 0)
+                ensureBlocking(ch);
+        } while (n == 0);
+        if (n < 0)
+            eof = true;
+        bb.flip();
+    }
+
+    /**
+     * Returns the index of the first line terminator in the buffer between
+     * the given indexes, or -1 if there is none.
+     */
+    private int indexOfEol(int from, int to) {
+        ByteBuffer bb = buf;
+        if (bb.hasArray()) {
+            byte[] a = bb.array();
+            int off = bb.arrayOffset();
+            for (int i = from + off, end = to + off; i < end; i++) {
+                byte b = a[i];
+                if (b == '\n' || b == '\r')
+                    return i - off;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                byte b = bb.get(i);
+                if (b == '\n' || b == '\r')
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer line(int start, int end) {
+        nextField = start;
+        lineEnd = end;
+        ByteBuffer view = lineView;
+        view.limit(end).position(start);
+        return view;
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * <p> The returned buffer is a read-only view whose position is the
+     * first byte of the line and whose limit is the byte following the
+     * last, not including any line-termination bytes.  It remains valid
+     * until the next invocation of this method.
+     *
+     * @return  A view of the line, or <tt>null</tt> if the end of the stream
+     *          has been reached
+     *
+     * @throws  ClosedChannelException
+     *          If this line reader is closed
+     *
+     * @throws  IllegalBlockingModeException
+     *          If the channel has been put in non-blocking mode
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     */
+    public ByteBuffer readLine() throws IOException {
+        ensureOpen();
+        nextField = -1;
+        int scanned = 0;        // bytes of the line scanned so far
+        for (;;) {
+            int pos = buf.position();
+            int lim = buf.limit();
+
+            // Skip a leftover '\n', if necessary
+            if (skipLF && pos < lim) {
+                if (buf.get(pos) == '\n')
+                    buf.position(++pos);
+                skipLF = false;
+            }
+
+            int i = indexOfEol(pos + scanned, lim);
+            if (i >= 0) {
+                if (buf.get(i) == '\r')
+                    skipLF = true;
+                buf.position(i + 1);
+                return line(pos, i);
+            }
+            scanned = lim - pos;
+            if (eof) {
+                if (scanned == 0)
+                    return null;
+                buf.position(lim);
+                return line(pos, lim);
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Returns the next field of the line last returned by {@link #readLine
+     * readLine}.  The line is split at each occurrence of the given
+     * delimiter, so that a line with <i>n</i> delimiters has <i>n</i>+1
+     * fields, some of which may be empty.
+     *
+     * <p> The returned buffer is a read-only view whose position is the
+     * first byte of the field and whose limit is the byte following the
+     * last, not including the delimiter.  It remains valid until the next
+     * invocation of this method or of {@code readLine}.
+     *
+     * @param  delimiter
+     *         The byte that separates fields, for example <tt>','</tt> or
+     *         <tt>'\t'</tt>
+     *
+     * @return  A view of the field, or <tt>null</tt> if all fields of the
+     *          line have been returned or no line has been read
+     *
+     * @throws  ClosedChannelException
+     *          If this line reader is closed
+     */
+    public ByteBuffer nextField(byte delimiter) throws IOException {
+        ensureOpen();
+        int start = nextField;
+        if (start < 0)
+            return null;
+        int end = lineEnd;
+        ByteBuffer bb = buf;
+        int i = start;
+        if (bb.hasArray()) {
+            byte[] a = bb.array();
+            int off = bb.arrayOffset();
+            while (i < end && a[i + off] != delimiter)
+                i++;
+        } else {
+            while (i < end && bb.get(i) != delimiter)
+                i++;
+        }
+        nextField = (i < end) ? i + 1 : -1;
+        ByteBuffer view = fieldView;
+        view.limit(i).position(start);
+        return view;
+    }
+
+    /**
+     * Closes this line reader and the underlying channel.
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     */
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        nextField = -1;
+        ch.close();
+    }
+}
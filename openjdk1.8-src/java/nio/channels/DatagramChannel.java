@@ -589,4 +589,192 @@ public abstract class DatagramChannel
     @Override
     public abstract SocketAddress getLocalAddress() throws IOException;
 
+    /**
+     * Receives a sequence of datagrams via this channel.
+     *
+     * <p> Each datagram is received as if by the {@link #receive(ByteBuffer)
+     * receive} method: the <i>i</i>th datagram is transferred into
+     * <tt>dsts[offset+</tt><i>i</i><tt>]</tt> and its source address is
+     * stored in <tt>sources[offset+</tt><i>i</i><tt>]</tt>.  If this channel
+     * is in blocking mode then this method waits for the first datagram;
+     * in either mode it then receives further datagrams only while they are
+     * immediately available, up to <tt>length</tt> datagrams in all.
+     *
+     * <p> Successive datagrams from the same source may be reported with the
+     * same address object, so callers processing a stream of datagrams from
+     * few peers need not allocate one address per datagram.
+     *
+     * <p> If an I/O error occurs after one or more datagrams have been
+     * received then this method returns the number received; the error is
+     * thrown only if no datagram was received.
+     *
+     * <p> The implementation of this method in this class invokes {@link
+     * #receive(ByteBuffer) receive} for each datagram and, in blocking mode,
+     * returns after the first one.  Implementations in subclasses may
+     * instead acquire the read lock once for the whole sequence. </p>
+     *
+     * @param  dsts
+     *         The buffers into which the datagrams are to be transferred
+     *
+     * @param  sources
+     *         The array in which the source addresses are to be stored
+     *
+     * @param  offset
+     *         The offset within the arrays of the first buffer and address
+     *         to be used; must be non-negative and no larger than the length
+     *         of either array
+     *
+     * @param  length
+     *         The maximum number of datagrams to be received; must be
+     *         non-negative and no larger than the length of either array
+     *         minus <tt>offset</tt>
+     *
+     * @return  The number of datagrams received, possibly zero if this
+     *          channel is in non-blocking mode
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the <tt>offset</tt> and
+     *          <tt>length</tt> parameters do not hold
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the read operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the read operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed
+     *          and it does not permit datagrams to be accepted
+     *          from a datagram's sender
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since   1.8
+     */
+    public int receive(ByteBuffer[] dsts, SocketAddress[] sources,
+                       int offset, int length)
+        throws IOException
+    {
+        checkBatchBounds(dsts.length, sources.length, offset, length);
+        boolean blocking = isBlocking();
+        int count = 0;
+        try {
+            while (count < length) {
+                SocketAddress sa = receive(dsts[offset + count]);
+                if (sa == null)
+                    break;
+                sources[offset + count] = sa;
+                count++;
+                if (blocking)
+                    break;
+            }
+        } catch (IOException x) {
+            if (count == 0)
+                throw x;
+        }
+        return count;
+    }
+
+    /**
+     * Sends a sequence of datagrams via this channel.
+     *
+     * <p> Each datagram is sent as if by the {@link #send(ByteBuffer,
+     * SocketAddress) send} method: the remaining bytes of
+     * <tt>srcs[offset+</tt><i>i</i><tt>]</tt> are transmitted as a single
+     * datagram to <tt>targets[offset+</tt><i>i</i><tt>]</tt>.  If this
+     * channel is in non-blocking mode then this method stops at the first
+     * datagram for which there is insufficient room in the underlying output
+     * buffer; that datagram and the ones following it are not sent.
+     *
+     * <p> If an I/O error occurs after one or more datagrams have been sent
+     * then this method returns the number sent; the error is thrown only if
+     * no datagram was sent.
+     *
+     * <p> The implementation of this method in this class invokes {@link
+     * #send(ByteBuffer, SocketAddress) send} for each datagram.
+     * Implementations in subclasses may instead acquire the write lock once
+     * for the whole sequence. </p>
+     *
+     * @param  srcs
+     *         The buffers containing the datagrams to be sent
+     *
+     * @param  targets
+     *         The addresses to which the datagrams are to be sent
+     *
+     * @param  offset
+     *         The offset within the arrays of the first buffer and address
+     *         to be used; must be non-negative and no larger than the length
+     *         of either array
+     *
+     * @param  length
+     *         The number of datagrams to be sent; must be non-negative and
+     *         no larger than the length of either array minus
+     *         <tt>offset</tt>
+     *
+     * @return  The number of datagrams sent
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the <tt>offset</tt> and
+     *          <tt>length</tt> parameters do not hold
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the write operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the write operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  SecurityException
+     *          If a security manager has been installed
+     *          and it does not permit datagrams to be sent
+     *          to one of the given addresses
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since   1.8
+     */
+    public int send(ByteBuffer[] srcs, SocketAddress[] targets,
+                    int offset, int length)
+        throws IOException
+    {
+        checkBatchBounds(srcs.length, targets.length, offset, length);
+        int count = 0;
+        try {
+            while (count < length) {
+                ByteBuffer src = srcs[offset + count];
+                int rem = src.remaining();
+                if (send(src, targets[offset + count]) == 0 && rem > 0)
+                    break;
+                count++;
+            }
+        } catch (IOException x) {
+            if (count == 0)
+                throw x;
+        }
+        return count;
+    }
+
+    private static void checkBatchBounds(int buffers, int addresses,
+                                         int offset, int length)
+    {
+        if ((offset < 0) || (length < 0)
+            || (offset > buffers - length) || (offset > addresses - length))
+            throw new IndexOutOfBoundsException();
+    }
+
 }
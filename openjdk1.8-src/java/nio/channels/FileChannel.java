@@ -1155,4 +1155,142 @@ public abstract class FileChannel
         return tryLock(0L, Long.MAX_VALUE, false);
     }
 
+
+    // -- Batched positional I/O --
+
+    /**
+     * Reads sequences of bytes from this channel into the given buffers, each
+     * starting at its own file position.
+     *
+     * <p> For each index <i>i</i> this method reads bytes into
+     * <tt>dsts[</tt><i>i</i><tt>]</tt> starting at file position
+     * <tt>positions[</tt><i>i</i><tt>]</tt> until either the buffer is full
+     * or the end of the file is reached, exactly as if by repeated invocations
+     * of the {@link #read(ByteBuffer,long)} method.  The requests are served
+     * in order and the positions need not be related to each other.  This
+     * method does not modify this channel's position.
+     *
+     * <p> Implementations are expected to amortize the per-operation cost of
+     * checking the channel state, of interruption handling and of any locking
+     * over the whole batch.  The default implementation simply invokes {@link
+     * #read(ByteBuffer,long)} for each request.  </p>
+     *
+     * @param  positions
+     *         The file positions at which the transfers are to begin;
+     *         must be non-negative
+     *
+     * @param  dsts
+     *         The buffers into which bytes are to be transferred; must have
+     *         the same length as <tt>positions</tt>
+     *
+     * @return  The total number of bytes read, possibly zero
+     *
+     * @throws  IllegalArgumentException
+     *          If the arrays differ in length, or if a position is negative
+     *
+     * @throws  NonReadableChannelException
+     *          If this channel was not opened for reading
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the read operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the read operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 1.8
+     */
+    public long read(long[] positions, ByteBuffer[] dsts) throws IOException {
+        sun.nio.ch.Util.checkBatch(positions, dsts);
+        long total = 0;
+        for (int i = 0; i < dsts.length; i++) {
+            ByteBuffer dst = dsts[i];
+            long position = positions[i];
+            while (dst.hasRemaining()) {
+                int n = read(dst, position);
+                if (n <= 0)
+                    break;
+                position += n;
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes sequences of bytes to this channel from the given buffers, each
+     * starting at its own file position.
+     *
+     * <p> For each index <i>i</i> this method writes all remaining bytes of
+     * <tt>srcs[</tt><i>i</i><tt>]</tt> starting at file position
+     * <tt>positions[</tt><i>i</i><tt>]</tt>, exactly as if by repeated
+     * invocations of the {@link #write(ByteBuffer,long)} method.  The
+     * requests are served in order, so where two of them overlap the later one
+     * prevails.  This method does not modify this channel's position.
+     *
+     * <p> Implementations are expected to amortize the per-operation cost of
+     * checking the channel state, of interruption handling and of any locking
+     * over the whole batch.  The default implementation simply invokes {@link
+     * #write(ByteBuffer,long)} for each request.  </p>
+     *
+     * @param  positions
+     *         The file positions at which the transfers are to begin;
+     *         must be non-negative
+     *
+     * @param  srcs
+     *         The buffers from which bytes are to be transferred; must have
+     *         the same length as <tt>positions</tt>
+     *
+     * @return  The total number of bytes written
+     *
+     * @throws  IllegalArgumentException
+     *          If the arrays differ in length, or if a position is negative
+     *
+     * @throws  NonWritableChannelException
+     *          If this channel was not opened for writing
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the write operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the write operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 1.8
+     */
+    public long write(long[] positions, ByteBuffer[] srcs) throws IOException {
+        sun.nio.ch.Util.checkBatch(positions, srcs);
+        long total = 0;
+        for (int i = 0; i < srcs.length; i++) {
+            ByteBuffer src = srcs[i];
+            long position = positions[i];
+            while (src.hasRemaining()) {
+                int n = write(src, position);
+                if (n <= 0)
+                    break;
+                position += n;
+                total += n;
+            }
+        }
+        return total;
+    }
+
 }
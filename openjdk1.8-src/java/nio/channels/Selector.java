@@ -393,4 +393,128 @@ public abstract class Selector implements Closeable {
      */
     public abstract void close() throws IOException;
 
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations.
+     *
+     * <p> This method performs a blocking selection operation, waiting as
+     * the {@link #select(long) select(long)} method does.  Instead of adding
+     * the keys whose ready sets were updated to the selected-key set, the
+     * action is invoked once for each of them, after the selection
+     * operation has completed; the selected-key set is left empty.  The
+     * action may register channels with this selector and change the
+     * interest sets of keys.
+     *
+     * <p> The implementation of this method in this class selects into the
+     * selected-key set and then drains it.  Implementations that can deliver
+     * ready keys without building that set are encouraged to override it.
+     * </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @param  timeout  If positive, block for up to <tt>timeout</tt>
+     *                  milliseconds, more or less, while waiting for a
+     *                  channel to become ready; if zero, block indefinitely;
+     *                  must not be negative
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @throws  IllegalArgumentException
+     *          If the value of the timeout argument is negative
+     *
+     * @since   1.8
+     */
+    public int select(java.util.function.Consumer<SelectionKey> action,
+                      long timeout)
+        throws IOException
+    {
+        if (timeout < 0)
+            throw new IllegalArgumentException("Negative timeout");
+        return doSelect(java.util.Objects.requireNonNull(action), timeout);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations, blocking as the {@link
+     * #select() select()} method does.
+     *
+     * <p> An invocation of this method behaves in exactly the same way as
+     * the invocation <tt>select(action, 0L)</tt>.  </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since   1.8
+     */
+    public int select(java.util.function.Consumer<SelectionKey> action)
+        throws IOException
+    {
+        return select(action, 0);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations, without blocking.
+     *
+     * <p> This method performs a non-blocking selection operation as the
+     * {@link #selectNow() selectNow()} method does, and invokes the action
+     * as the {@link #select(java.util.function.Consumer,long)
+     * select(Consumer,long)} method does.  </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since   1.8
+     */
+    public int selectNow(java.util.function.Consumer<SelectionKey> action)
+        throws IOException
+    {
+        return doSelect(java.util.Objects.requireNonNull(action), -1);
+    }
+
+    private int doSelect(java.util.function.Consumer<SelectionKey> action,
+                         long timeout)
+        throws IOException
+    {
+        synchronized (this) {
+            Set<SelectionKey> selectedKeys = selectedKeys();
+            SelectionKey[] ready;
+            synchronized (selectedKeys) {
+                selectedKeys.clear();
+                if (timeout < 0)
+                    selectNow();
+                else
+                    select(timeout);
+                ready = selectedKeys.toArray(new SelectionKey[selectedKeys.size()]);
+                selectedKeys.clear();
+            }
+            for (SelectionKey k : ready) {
+                action.accept(k);
+                if (!isOpen())
+                    throw new ClosedSelectorException();
+            }
+            return ready.length;
+        }
+    }
+
 }
@@ -40,7 +40,7 @@ public final class ExtendedPlatformComponent {
      * platform MBeanServer, or an empty list if there are no such MXBeans.
      */
     public static List<? extends PlatformManagedObject> getMXBeans() {
-        return Collections.emptyList();
+        return channelIOMXBeans();
     }
 
     /**
@@ -49,6 +49,21 @@ public final class ExtendedPlatformComponent {
      */
     public static <T extends PlatformManagedObject>
             T getMXBean(Class<T> mxbeanInterface) {
-        return null;
+        return channelIOMXBean(mxbeanInterface);
+    }
+
+    // The channel I/O MXBean is registered only when statistics collection
+    // is enabled
+    private static List<? extends PlatformManagedObject> channelIOMXBeans() {
+        if (!sun.nio.ch.ChannelIOStatistics.isEnabled())
+            return Collections.emptyList();
+        return Collections.singletonList(sun.nio.ch.ChannelIOStatistics.getMXBean());
+    }
+
+    private static <T extends PlatformManagedObject>
+            T channelIOMXBean(Class<T> mxbeanInterface) {
+        if (!sun.nio.ch.ChannelIOStatistics.isEnabled())
+            return null;
+        return sun.nio.ch.ChannelIOStatistics.getMXBean(mxbeanInterface);
     }
 }
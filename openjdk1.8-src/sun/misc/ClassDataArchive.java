@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.misc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Manifest;
+import sun.net.www.ParseUtil;
+import sun.security.action.GetPropertyAction;
+
+/*
+ * ClassDataArchive keeps the class files loaded by the extension and
+ * application class loaders in one memory-mapped file, so that later
+ * launches of the same application define those classes from the
+ * mapping instead of opening and inflating jar entries.
+ *
+ * Training run: with -Dsun.misc.ClassDataArchive.dump=<file> every class
+ * that URLClassLoader.defineClass reads from an unsigned local jar on the
+ * extension or application class path is recorded, and the archive is
+ * written when the VM exits.
+ *
+ * Later runs: with -Dsun.misc.ClassDataArchive.file=<file> the archive is
+ * mapped read-only on first use. URLClassLoader.findClass asks it before
+ * searching the URLClassPath. A hit is served as a Resource whose byte
+ * buffer is a slice of the mapping, and the class is defined from that
+ * buffer. The code source URL and the jar manifest (used for package
+ * sealing and versioning) are the same as for the jar entry. The archive
+ * is used only if the extension and application class paths list the
+ * same URLs, in the same order, as in the training run, and every jar on
+ * them still has the size and modification time recorded then; otherwise
+ * a class could come from a jar that is no longer on the class path, or
+ * shadow one since added to a jar placed before it. No archive is written
+ * for class paths that hold directories or non-file URLs, whose contents
+ * cannot be stamped. Each source jar is also checked by its size and
+ * modification time when the archive is opened. Classes from a changed or
+ * missing jar are looked up normally.
+ *
+ * The archive layout (all integers big-endian):
+ *
+ *   int     MAGIC
+ *   int     number of extension class path URLs
+ *     UTF     URL
+ *     long    jar length
+ *     long    jar modification time
+ *   int     number of application class path URLs
+ *     UTF     URL
+ *     long    jar length
+ *     long    jar modification time
+ *   int     number of sources
+ *     UTF     code source URL
+ *     long    jar length
+ *     long    jar modification time
+ *     int     manifest length, -1 if none
+ *     byte[]  manifest
+ *   int     number of classes
+ *     byte    loader (EXT or APP)
+ *     UTF     resource name, e.g. "com/example/Foo.class"
+ *     int     source index
+ *     int     offset of the class bytes from the start of the file
+ *     int     length of the class bytes
+ *   byte[]  class bytes
+ */
+
+public final class ClassDataArchive {
+
+    private static final int MAGIC = 0xCDA50003;
+
+    private static final byte EXT = 1;
+    private static final byte APP = 2;
+
+    private static final String dumpFile;
+    private static final String archiveFile;
+
+    static {
+        dumpFile = AccessController.doPrivileged(
+            new GetPropertyAction("sun.misc.ClassDataArchive.dump"));
+        archiveFile = AccessController.doPrivileged(
+            new GetPropertyAction("sun.misc.ClassDataArchive.file"));
+    }
+
+    private ClassDataArchive() { }
+
+    // -- Loader identification --
+
+    private static volatile URLClassPath extPath;
+    private static volatile URLClassPath appPath;
+
+    /*
+     * Returns EXT or APP if ucp is the search path of the extension or the
+     * application class loader, 0 otherwise or while the Launcher is still
+     * being created.
+     */
+    private static byte kindOf(URLClassPath ucp) {
+        if (appPath == null) {
+            Launcher l = Launcher.getLauncher();
+            if (l == null)
+                return 0;
+            ClassLoader app = l.getClassLoader();
+            if (!(app instanceof Launcher.AppClassLoader))
+                return 0;
+            ClassLoader ext = app.getParent();
+            extPath = (ext instanceof URLClassLoader)
+                ? SharedSecrets.getJavaNetAccess().getURLClassPath((URLClassLoader)ext)
+                : null;
+            appPath = ((Launcher.AppClassLoader)app).ucp;
+        }
+        if (ucp == appPath)
+            return APP;
+        if (ucp == extPath)
+            return EXT;
+        return 0;
+    }
+
+    private static URL[] urlsOf(URLClassPath ucp) {
+        return (ucp == null) ? new URL[0] : ucp.getURLs();
+    }
+
+    private static String key(byte kind, String name) {
+        return (kind == APP ? "A:" : "E:").concat(name);
+    }
+
+    // -- Lookup --
+
+    /*
+     * Returns the Resource for the class file with the given name, from
+     * the archive if it holds the class for ucp, or else from ucp.
+     */
+    public static Resource getResource(URLClassPath ucp, String name) {
+        if (archiveFile != null) {
+            // kindOf must come first: opening the archive compares it with
+            // the loaders' class paths
+            byte kind = kindOf(ucp);
+            if (kind != 0) {
+                Archive a = Archive.get();
+                if (a != null) {
+                    Resource res = a.getResource(key(kind, name));
+                    if (res != null)
+                        return res;
+                }
+            }
+        }
+        return ucp.getResource(name, false);
+    }
+
+    private static class Source {
+        final URL url;
+        final byte[] manifest;      // raw manifest bytes, or null
+        private Manifest parsed;
+
+        Source(URL url, byte[] manifest) {
+            this.url = url;
+            this.manifest = manifest;
+        }
+
+        synchronized Manifest getManifest() throws IOException {
+            if (parsed == null && manifest != null)
+                parsed = new Manifest(new ByteArrayInputStream(manifest));
+            return parsed;
+        }
+    }
+
+    private static class Archive {
+        private static Archive instance;
+        private static boolean opened;
+
+        private final MappedByteBuffer data;
+        private final Map<String, Entry> entries;
+
+        private static class Entry {
+            final Source source;
+            final int offset;
+            final int length;
+
+            Entry(Source source, int offset, int length) {
+                this.source = source;
+                this.offset = offset;
+                this.length = length;
+            }
+        }
+
+        private Archive(MappedByteBuffer data, Map<String, Entry> entries) {
+            this.data = data;
+            this.entries = entries;
+        }
+
+        // Maps the archive on first use; null if it cannot be used
+        static synchronized Archive get() {
+            if (!opened) {
+                opened = true;
+                try {
+                    instance = open(new File(archiveFile));
+                } catch (IOException | RuntimeException e) {
+                    // Malformed or unreadable: run without the archive
+                    instance = null;
+                }
+            }
+            return instance;
+        }
+
+        private static Archive open(File file) throws IOException {
+            MappedByteBuffer data;
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                FileChannel fc = raf.getChannel();
+                data = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            }
+            ByteBuffer bb = data.duplicate();
+            if (bb.getInt() != MAGIC)
+                return null;
+            if (!sameClassPath(bb, urlsOf(extPath)) ||
+                !sameClassPath(bb, urlsOf(appPath)))
+                return null;
+            int n = bb.getInt();
+            Source[] sources = new Source[n];
+            for (int i = 0; i < n; i++) {
+                URL url = new URL(getUTF(bb));
+                long length = bb.getLong();
+                long lastModified = bb.getLong();
+                int mlen = bb.getInt();
+                byte[] man = null;
+                if (mlen >= 0) {
+                    man = new byte[mlen];
+                    bb.get(man);
+                }
+                File jar = new File(ParseUtil.decode(url.getFile()));
+                if (jar.length() == length && jar.lastModified() == lastModified)
+                    sources[i] = new Source(url, man);
+            }
+            n = bb.getInt();
+            Map<String, Entry> entries = new HashMap<>(n * 4 / 3 + 1);
+            for (int i = 0; i < n; i++) {
+                byte kind = bb.get();
+                String name = getUTF(bb);
+                Source src = sources[bb.getInt()];
+                int offset = bb.getInt();
+                int length = bb.getInt();
+                if (offset < 0 || length < 0 ||
+                    (long)offset + length > data.limit())
+                    throw new IOException("Entry out of bounds: " + name);
+                if (src != null)
+                    entries.put(key(kind, name), new Entry(src, offset, length));
+            }
+            return new Archive(data, entries);
+        }
+
+        // Reads a class path URL list and compares it with the given one,
+        // and each jar on it with the size and modification time recorded
+        private static boolean sameClassPath(ByteBuffer bb, URL[] urls)
+            throws IOException
+        {
+            int n = bb.getInt();
+            boolean same = (n == urls.length);
+            for (int i = 0; i < n; i++) {
+                String u = getUTF(bb);
+                long length = bb.getLong();
+                long lastModified = bb.getLong();
+                if (same && !u.equals(urls[i].toString()))
+                    same = false;
+                if (same) {
+                    File jar = jarFile(urls[i]);
+                    same = jar != null && jar.length() == length &&
+                           jar.lastModified() == lastModified;
+                }
+            }
+            return same;
+        }
+
+        // Reads a string written by DataOutput.writeUTF
+        private static String getUTF(ByteBuffer bb) throws IOException {
+            int len = bb.getShort() & 0xffff;
+            byte[] b = new byte[2 + len];
+            b[0] = (byte)(len >> 8);
+            b[1] = (byte)len;
+            bb.get(b, 2, len);
+            return new DataInputStream(new ByteArrayInputStream(b)).readUTF();
+        }
+
+        Resource getResource(String key) {
+            final Entry e = entries.get(key);
+            if (e == null)
+                return null;
+            final String name = key.substring(2);
+            return new Resource() {
+                public String getName() { return name; }
+                public URL getURL() {
+                    try {
+                        return new URL("jar:" + e.source.url + "!/" +
+                                       ParseUtil.encodePath(name, false));
+                    } catch (MalformedURLException x) {
+                        return null;
+                    }
+                }
+                public URL getCodeSourceURL() { return e.source.url; }
+                public InputStream getInputStream() {
+                    return new ByteArrayInputStream(getBytes0());
+                }
+                public int getContentLength() { return e.length; }
+                public byte[] getBytes() { return getBytes0(); }
+                public ByteBuffer getByteBuffer() { return slice(); }
+                public Manifest getManifest() throws IOException {
+                    return e.source.getManifest();
+                }
+                private byte[] getBytes0() {
+                    byte[] b = new byte[e.length];
+                    slice().get(b);
+                    return b;
+                }
+                private ByteBuffer slice() {
+                    ByteBuffer bb = data.duplicate();
+                    bb.position(e.offset);
+                    bb.limit(e.offset + e.length);
+                    return bb.slice();
+                }
+            };
+        }
+    }
+
+    // -- Recording --
+
+    private static class Recorded {
+        final byte kind;
+        final String name;
+        final int source;
+        final byte[] bytes;
+
+        Recorded(byte kind, String name, int source, byte[] bytes) {
+            this.kind = kind;
+            this.name = name;
+            this.source = source;
+            this.bytes = bytes;
+        }
+    }
+
+    // Guarded by the class lock
+    private static Map<String, Integer> sourceIndex;
+    private static List<URL> sources;
+    private static List<byte[]> manifests;
+    private static Map<String, Recorded> recorded;
+
+    /*
+     * Reads the bytes of the given class resource, recording them for the
+     * archive if this is a training run and the class comes from an
+     * unsigned local jar on the extension or application class path.
+     */
+    public static byte[] record(URLClassPath ucp, String name, URL url,
+                                Resource res) throws IOException {
+        byte[] b = res.getBytes();
+        if (dumpFile == null || url == null || !"file".equals(url.getProtocol()))
+            return b;
+        byte kind = kindOf(ucp);
+        if (kind == 0 || res.getCodeSigners() != null)
+            return b;
+        String path = name.replace('.', '/').concat(".class");
+        if (!new File(ParseUtil.decode(url.getFile())).isFile())
+            return b;       // a directory
+        Manifest man = res.getManifest();
+        synchronized (ClassDataArchive.class) {
+            if (recorded == null) {
+                recorded = new LinkedHashMap<>();
+                sourceIndex = new HashMap<>();
+                sources = new ArrayList<>();
+                manifests = new ArrayList<>();
+                addShutdownHook();
+            }
+            String u = url.toString();
+            Integer si = sourceIndex.get(u);
+            if (si == null) {
+                si = sources.size();
+                sourceIndex.put(u, si);
+                sources.add(url);
+                manifests.add(toBytes(man));
+            }
+            recorded.put(key(kind, path), new Recorded(kind, path, si, b));
+        }
+        return b;
+    }
+
+    private static byte[] toBytes(Manifest man) throws IOException {
+        if (man == null)
+            return null;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        man.write(out);
+        return out.toByteArray();
+    }
+
+    private static void addShutdownHook() {
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread("ClassDataArchive dump") {
+                public void run() {
+                    try {
+                        dump(new File(dumpFile));
+                    } catch (IOException e) {
+                        System.err.println("Failed to write class data archive " +
+                                           dumpFile + ": " + e);
+                    }
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Already shutting down
+        }
+    }
+
+    private static synchronized void dump(File file) throws IOException {
+        // The header is built first, to learn where the class bytes start
+        ByteArrayOutputStream hdr = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(hdr);
+        out.writeInt(MAGIC);
+        writeClassPath(out, urlsOf(extPath));
+        writeClassPath(out, urlsOf(appPath));
+        out.writeInt(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            URL url = sources.get(i);
+            File jar = new File(ParseUtil.decode(url.getFile()));
+            byte[] man = manifests.get(i);
+            out.writeUTF(url.toString());
+            out.writeLong(jar.length());
+            out.writeLong(jar.lastModified());
+            out.writeInt((man == null) ? -1 : man.length);
+            if (man != null)
+                out.write(man);
+        }
+        out.writeInt(recorded.size());
+        int tableSize = 0;
+        for (Recorded r : recorded.values())
+            tableSize += 1 + 2 + utfLength(r.name) + 4 + 4 + 4;
+        long offset = out.size() + tableSize;
+        for (Recorded r : recorded.values()) {
+            if (offset + r.bytes.length > Integer.MAX_VALUE)
+                throw new IOException("Archive too large");
+            out.writeByte(r.kind);
+            out.writeUTF(r.name);
+            out.writeInt(r.source);
+            out.writeInt((int)offset);
+            out.writeInt(r.bytes.length);
+            offset += r.bytes.length;
+        }
+        out.flush();
+
+        // Write a temporary file that then replaces the old archive, so that
+        // a concurrently starting VM never maps a partial archive
+        File dir = file.getAbsoluteFile().getParentFile();
+        File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+        try {
+            try (FileOutputStream fos = new FileOutputStream(tmp)) {
+                hdr.writeTo(fos);
+                for (Recorded r : recorded.values())
+                    fos.write(r.bytes);
+            }
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                if (!tmp.renameTo(file))
+                    throw new IOException("Cannot replace " + file);
+            }
+            tmp = null;
+        } finally {
+            if (tmp != null)
+                tmp.delete();
+        }
+    }
+
+    private static void writeClassPath(DataOutputStream out, URL[] urls)
+        throws IOException
+    {
+        out.writeInt(urls.length);
+        for (URL url : urls) {
+            File jar = jarFile(url);
+            if (jar == null)
+                throw new IOException("Class path holds a directory or a " +
+                                      "non-file URL: " + url);
+            out.writeUTF(url.toString());
+            out.writeLong(jar.length());
+            out.writeLong(jar.lastModified());
+        }
+    }
+
+    /*
+     * Returns the file of a class path URL, or null if the URL does not
+     * name a local file that can be stamped, such as a directory. A file
+     * that does not exist is stamped with zero size and modification time,
+     * so the archive is ignored once it is created.
+     */
+    private static File jarFile(URL url) {
+        if (!"file".equals(url.getProtocol()))
+            return null;
+        File f = new File(ParseUtil.decode(url.getFile()));
+        return f.isDirectory() ? null : f;
+    }
+
+    // Length of the modified UTF-8 form written by DataOutput.writeUTF
+    private static int utfLength(String s) {
+        int len = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F)
+                len++;
+            else if (c > 0x07FF)
+                len += 3;
+            else
+                len += 2;
+        }
+        return len;
+    }
+}
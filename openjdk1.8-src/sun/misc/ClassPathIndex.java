@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.misc;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/*
+ * ClassPathIndex extends the MetaIndex fast reject mechanism, which is
+ * otherwise only available for the boot and extension class paths, to
+ * the jar files on the application class path.
+ *
+ * The index is kept in a flat text file named by the system property
+ * sun.misc.ClassPathIndex.file. On the first run the file does not exist:
+ * every jar on the class path is scanned once and the file is written.
+ * On later runs the index is read back and each jar's size and
+ * modification time are compared against the recorded ones; only jars
+ * that changed, or are new, are scanned again. Here is an example:
+ *
+<PRE>
+% VERSION 2
+# /opt/app/lib/app.jar 81234 1692357812000
+com/
+META-INF/
+log4j.properties
+- /opt/app/lib/launcher.jar 2301 1692357812000
+</PRE>
+ *
+ * For each '#' jar the lines that follow are its top-level directories,
+ * and the names of entries in the root directory. MetaIndex matches a
+ * name by prefix, so listing a deeper directory would reject lookups of
+ * its ancestors, such as getResources("com/"), that the jar satisfies
+ * through its directory entries. The contents are registered with
+ * MetaIndex before the application class loader is created, so a
+ * URLClassPath.JarLoader for the jar rejects a lookup under another
+ * top-level directory without opening the jar, and it opens the jar
+ * only when a lookup may succeed.
+ *
+ * A '-' jar is not indexed. This applies to jars with a Class-Path or
+ * Extension-List manifest attribute, or with a META-INF/INDEX.LIST. A
+ * JarLoader with a MetaIndex skips the Class-Path expansion, the
+ * extension checks and the JarIndex, so such jars keep the regular
+ * treatment.
+ */
+
+final class ClassPathIndex {
+
+    private static final String VERSION = "% VERSION 2";
+
+    private ClassPathIndex() { }
+
+    // One class path entry as recorded in, or to be written to, the file
+    private static class Entry {
+        final String path;
+        final long length;
+        final long lastModified;
+        final List<String> contents;    // null if not indexed
+
+        Entry(String path, long length, long lastModified,
+              List<String> contents) {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.contents = contents;
+        }
+
+        boolean isCurrent(File f) {
+            return f.length() == length && f.lastModified() == lastModified;
+        }
+    }
+
+    /*
+     * Registers meta-indices for the jar files on the given class path,
+     * reading and if necessary rewriting the index file. Does nothing
+     * unless sun.misc.ClassPathIndex.file is set.
+     *
+     * This method must be called from a privileged context.
+     */
+    static void register(File[] path) {
+        String name = System.getProperty("sun.misc.ClassPathIndex.file");
+        if (name == null || name.isEmpty())
+            return;
+        File indexFile = new File(name);
+        Map<String, Entry> recorded = read(indexFile);
+        List<Entry> entries = new ArrayList<>(path.length);
+        boolean changed = false;
+        for (File f : path) {
+            File jar;
+            try {
+                jar = f.getCanonicalFile();
+            } catch (IOException e) {
+                continue;
+            }
+            // Directories can change under us, so they are never indexed
+            if (!jar.isFile())
+                continue;
+            Entry e = recorded.remove(jar.getPath());
+            if (e == null || !e.isCurrent(jar)) {
+                e = scan(jar);
+                if (e == null)
+                    continue;
+                changed = true;
+            }
+            entries.add(e);
+            if (e.contents != null)
+                MetaIndex.register(jar, e.contents);
+        }
+        if (changed || !recorded.isEmpty())
+            write(indexFile, entries);
+    }
+
+    /*
+     * Computes the contents of the given jar file, or returns null if it
+     * cannot be read.
+     */
+    private static Entry scan(File jar) {
+        long length = jar.length();
+        long lastModified = jar.lastModified();
+        try (JarFile jf = new JarFile(jar, false)) {
+            if (jf.getEntry(JarIndex.INDEX_NAME) != null || hasDependencies(jf))
+                return new Entry(jar.getPath(), length, lastModified, null);
+            TreeSet<String> names = new TreeSet<>();
+            Enumeration<? extends ZipEntry> en = jf.entries();
+            while (en.hasMoreElements()) {
+                String n = en.nextElement().getName();
+                // every ancestor directory is an entry, or may be looked up
+                // as one, so record each of them
+                int i = n.indexOf('/');
+                if (i < 0) {
+                    names.add(n);
+                } else {
+                    do {
+                        names.add(n.substring(0, i + 1));
+                    } while ((i = n.indexOf('/', i + 1)) >= 0);
+                }
+            }
+            return new Entry(jar.getPath(), length, lastModified,
+                             removeCovered(names));
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasDependencies(JarFile jf) throws IOException {
+        Manifest man = jf.getManifest();
+        if (man == null)
+            return false;
+        Attributes attr = man.getMainAttributes();
+        return attr.getValue(Attributes.Name.CLASS_PATH) != null ||
+               attr.getValue(Attributes.Name.EXTENSION_LIST) != null;
+    }
+
+    /*
+     * MetaIndex matches by prefix, so a directory whose parent is already
+     * listed adds nothing. The names are sorted, so a covering prefix is
+     * always seen before the names it covers. As every ancestor directory
+     * is listed, only the top-level directories and root entries remain.
+     */
+    private static List<String> removeCovered(TreeSet<String> names) {
+        List<String> result = new ArrayList<>();
+        String last = null;
+        for (Iterator<String> it = names.iterator(); it.hasNext(); ) {
+            String n = it.next();
+            if (last != null && n.startsWith(last))
+                continue;
+            result.add(n);
+            if (n.endsWith("/"))
+                last = n;
+        }
+        return result;
+    }
+
+    private static Map<String, Entry> read(File indexFile) {
+        Map<String, Entry> map = new HashMap<>();
+        if (!indexFile.isFile())
+            return map;
+        try (BufferedReader reader = new BufferedReader(
+                 new InputStreamReader(new FileInputStream(indexFile), "UTF-8"))) {
+            String line = reader.readLine();
+            if (line == null || !line.equals(VERSION))
+                return map;
+            List<String> contents = null;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty())
+                    continue;
+                char c = line.charAt(0);
+                if (c != '#' && c != '-') {
+                    if (contents == null)
+                        return new HashMap<>();     // malformed
+                    contents.add(line);
+                    continue;
+                }
+                // "<tag> <path> <length> <lastModified>", path may hold spaces
+                int j = line.lastIndexOf(' ');
+                int i = line.lastIndexOf(' ', j - 1);
+                if (i <= 2)
+                    return new HashMap<>();
+                contents = (c == '#') ? new ArrayList<String>() : null;
+                String path = line.substring(2, i);
+                map.put(path, new Entry(path,
+                                        Long.parseLong(line.substring(i + 1, j)),
+                                        Long.parseLong(line.substring(j + 1)),
+                                        contents));
+            }
+        } catch (IOException | NumberFormatException e) {
+            return new HashMap<>();
+        }
+        return map;
+    }
+
+    /*
+     * Writes the index to a temporary file that then replaces the old one,
+     * so that concurrently starting VMs never read a partial index.
+     */
+    private static void write(File indexFile, List<Entry> entries) {
+        File dir = indexFile.getAbsoluteFile().getParentFile();
+        File tmp = null;
+        try {
+            tmp = File.createTempFile(indexFile.getName(), ".tmp", dir);
+            try (BufferedWriter writer = new BufferedWriter(
+                     new OutputStreamWriter(new FileOutputStream(tmp), "UTF-8"))) {
+                writer.write(VERSION);
+                writer.newLine();
+                for (Entry e : entries) {
+                    writer.write((e.contents != null) ? "# " : "- ");
+                    writer.write(e.path + " " + e.length + " " + e.lastModified);
+                    writer.newLine();
+                    if (e.contents == null)
+                        continue;
+                    for (String s : e.contents) {
+                        writer.write(s);
+                        writer.newLine();
+                    }
+                }
+            }
+            if (!tmp.renameTo(indexFile)) {
+                indexFile.delete();
+                if (!tmp.renameTo(indexFile))
+                    tmp.delete();
+            }
+        } catch (IOException | SecurityException e) {
+            // The index is only an optimization; run without writing it
+            if (tmp != null)
+                tmp.delete();
+        }
+    }
+}
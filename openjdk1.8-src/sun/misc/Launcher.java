@@ -287,8 +287,8 @@ public class Launcher {
             return AccessController.doPrivileged(
                 new PrivilegedAction<AppClassLoader>() {
                     public AppClassLoader run() {
-                    URL[] urls =
-                        (s == null) ? new URL[0] : pathToURLs(path);
+                    ClassPathIndex.register(path);
+                    URL[] urls = (s == null) ? new URL[0] : pathToURLs(path);
                     return new AppClassLoader(urls, extcl);
                 }
             });
@@ -271,4 +271,10 @@ public class MetaIndex {
         assert jarMap != null;
         return jarMap;
     }
+
+    // Registers the meta-index of a single jar file whose contents are
+    // known by other means than a meta-index file, see ClassPathIndex.
+    static synchronized void register(File jar, List<String> contents) {
+        getJarMap().put(jar, new MetaIndex(contents, false));
+    }
 }
@@ -188,4 +188,145 @@ public class PerfCounter {
     public static PerfCounter getD3DAvailable() {
         return WindowsClientCounters.d3dAvailable;
     }
+
+    static class NioCounters {
+        static final PerfCounter ttd   = newPerfCounter("sun.nio.ch.transferTo.direct");
+        static final PerfCounter ttdb  = newPerfCounter("sun.nio.ch.transferTo.directBytes");
+        static final PerfCounter ttm   = newPerfCounter("sun.nio.ch.transferTo.mapped");
+        static final PerfCounter ttmb  = newPerfCounter("sun.nio.ch.transferTo.mappedBytes");
+        static final PerfCounter ttb   = newPerfCounter("sun.nio.ch.transferTo.buffered");
+        static final PerfCounter ttbb  = newPerfCounter("sun.nio.ch.transferTo.bufferedBytes");
+        static final PerfCounter tfmf  = newPerfCounter("sun.nio.ch.transferFrom.mappedFile");
+        static final PerfCounter tfmfb = newPerfCounter("sun.nio.ch.transferFrom.mappedFileBytes");
+        static final PerfCounter tfmc  = newPerfCounter("sun.nio.ch.transferFrom.mappedChannel");
+        static final PerfCounter tfmcb = newPerfCounter("sun.nio.ch.transferFrom.mappedChannelBytes");
+        static final PerfCounter tfb   = newPerfCounter("sun.nio.ch.transferFrom.buffered");
+        static final PerfCounter tfbb  = newPerfCounter("sun.nio.ch.transferFrom.bufferedBytes");
+    }
+
+    /**
+     * Number of FileChannel.transferTo calls that used sendfile
+     */
+    public static PerfCounter getTransferToDirect() {
+        return NioCounters.ttd;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferTo using sendfile
+     */
+    public static PerfCounter getTransferToDirectBytes() {
+        return NioCounters.ttdb;
+    }
+
+    /**
+     * Number of FileChannel.transferTo calls that wrote from a mapped buffer
+     */
+    public static PerfCounter getTransferToMapped() {
+        return NioCounters.ttm;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferTo from a mapped buffer
+     */
+    public static PerfCounter getTransferToMappedBytes() {
+        return NioCounters.ttmb;
+    }
+
+    /**
+     * Number of FileChannel.transferTo calls that copied through a
+     * temporary buffer
+     */
+    public static PerfCounter getTransferToBuffered() {
+        return NioCounters.ttb;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferTo through a temporary buffer
+     */
+    public static PerfCounter getTransferToBufferedBytes() {
+        return NioCounters.ttbb;
+    }
+
+    /**
+     * Number of FileChannel.transferFrom calls from another file channel,
+     * which write from a mapped buffer
+     */
+    public static PerfCounter getTransferFromMappedFile() {
+        return NioCounters.tfmf;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferFrom from another file channel
+     */
+    public static PerfCounter getTransferFromMappedFileBytes() {
+        return NioCounters.tfmfb;
+    }
+
+    /**
+     * Number of FileChannel.transferFrom calls that read a socket or pipe
+     * directly into a mapped region of the file
+     */
+    public static PerfCounter getTransferFromMappedChannel() {
+        return NioCounters.tfmc;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferFrom from a socket or pipe
+     * into a mapped region of the file
+     */
+    public static PerfCounter getTransferFromMappedChannelBytes() {
+        return NioCounters.tfmcb;
+    }
+
+    /**
+     * Number of FileChannel.transferFrom calls that copied through a
+     * temporary buffer
+     */
+    public static PerfCounter getTransferFromBuffered() {
+        return NioCounters.tfb;
+    }
+
+    /**
+     * Bytes transferred by FileChannel.transferFrom through a temporary buffer
+     */
+    public static PerfCounter getTransferFromBufferedBytes() {
+        return NioCounters.tfbb;
+    }
+
+    static class KeepAliveCounters {
+        static final PerfCounter hits  = newPerfCounter("sun.net.www.http.keepAlive.hits");
+        static final PerfCounter miss  = newPerfCounter("sun.net.www.http.keepAlive.misses");
+        static final PerfCounter evict = newPerfCounter("sun.net.www.http.keepAlive.evictions");
+        static final PerfCounter idle  = newPerfCounter("sun.net.www.http.keepAlive.idle");
+    }
+
+    /**
+     * Number of HTTP connections reused from the keep-alive pool
+     */
+    public static PerfCounter getKeepAliveHits() {
+        return KeepAliveCounters.hits;
+    }
+
+    /**
+     * Number of HTTP requests for which the keep-alive pool had no
+     * reusable connection
+     */
+    public static PerfCounter getKeepAliveMisses() {
+        return KeepAliveCounters.miss;
+    }
+
+    /**
+     * Number of idle HTTP connections closed by the keep-alive pool
+     * because they timed out, failed a health check or exceeded a limit
+     */
+    public static PerfCounter getKeepAliveEvictions() {
+        return KeepAliveCounters.evict;
+    }
+
+    /**
+     * Number of idle HTTP connections in the keep-alive pool
+     */
+    public static PerfCounter getKeepAliveIdle() {
+        return KeepAliveCounters.idle;
+    }
 }
@@ -205,9 +205,9 @@ class ExchangeImpl {
         }
         this.rcode = rCode;
         String statusLine = "HTTP/1.1 "+rCode+Code.msg(rCode)+"\r\n";
-        OutputStream tmpout = new BufferedOutputStream (ros);
+        HeaderOutputStream tmpout = new HeaderOutputStream (ros);
         PlaceholderOutputStream o = getPlaceholderResponseBody();
-        tmpout.write (bytes(statusLine, 0), 0, statusLine.length());
+        tmpout.writeAscii (statusLine);
         boolean noContentToSend = false; // assume there is content
         rspHdrs.set ("Date", dateFormat.get().format (new Date()));
 
@@ -256,7 +256,7 @@ class ExchangeImpl {
                 o.setWrappedStream (new FixedLengthOutputStream (this, ros, contentLen));
             }
         }
-        write (rspHdrs, tmpout);
+        tmpout.writeHeaders (rspHdrs);
         this.rspContentLen = contentLen;
         tmpout.flush() ;
         tmpout = null;
@@ -454,3 +454,95 @@ class PlaceholderOutputStream extends java.io.OutputStream {
         wrapped.close();
     }
 }
+
+/**
+ * Collects the status line and headers of a response in a temporary
+ * direct buffer, and writes them out in one go when flushed. On a plain
+ * connection the buffer is written straight to the socket channel,
+ * without being copied to or from the heap.
+ */
+class HeaderOutputStream extends java.io.OutputStream {
+
+    OutputStream ros;
+    java.nio.ByteBuffer buf;
+
+    HeaderOutputStream (OutputStream ros) {
+        this.ros = ros;
+    }
+
+    /* make room for n more bytes, taking a larger temporary buffer if needed */
+    private void ensureCapacity (int n) {
+        java.nio.ByteBuffer b = buf;
+        if (b == null) {
+            b = sun.nio.ch.Util.getTemporaryDirectBuffer (Math.max (n, 512));
+            b.clear();
+            buf = b;
+        } else if (b.remaining() < n) {
+            java.nio.ByteBuffer nb = sun.nio.ch.Util.getTemporaryDirectBuffer (
+                Math.max (b.position() + n, 2 * b.capacity())
+            );
+            nb.clear();
+            b.flip();
+            nb.put (b);
+            sun.nio.ch.Util.releaseTemporaryDirectBuffer (b);
+            buf = nb;
+        }
+    }
+
+    public void write (int b) {
+        ensureCapacity (1);
+        buf.put ((byte)b);
+    }
+
+    public void write (byte[] b, int off, int len) {
+        ensureCapacity (len);
+        buf.put (b, off, len);
+    }
+
+    /* each char is written as a single byte, as for the header values */
+    void writeAscii (String s) {
+        int len = s.length();
+        ensureCapacity (len);
+        java.nio.ByteBuffer b = buf;
+        for (int i=0; i<len; i++) {
+            b.put ((byte)s.charAt (i));
+        }
+    }
+
+    void writeHeaders (Headers map) {
+        for (Map.Entry<String,List<String>> entry : map.entrySet()) {
+            String key = entry.getKey();
+            for (String val : entry.getValue()) {
+                writeAscii (key);
+                write (':');
+                write (' ');
+                writeAscii (val);
+                write ('\r');
+                write ('\n');
+            }
+        }
+        write ('\r');
+        write ('\n');
+    }
+
+    /* writes out what has been collected, and gives back the buffer */
+    public void flush () throws IOException {
+        java.nio.ByteBuffer b = buf;
+        if (b != null) {
+            buf = null;
+            try {
+                b.flip();
+                if (ros instanceof Request.WriteStream) {
+                    ((Request.WriteStream)ros).write (b);
+                } else {
+                    byte[] bytes = new byte [b.remaining()];
+                    b.get (bytes);
+                    ros.write (bytes);
+                }
+            } finally {
+                sun.nio.ch.Util.releaseTemporaryDirectBuffer (b);
+            }
+        }
+        ros.flush();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.net.httpserver;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import com.sun.net.httpserver.*;
+
+/**
+ * Sends responses whose bodies are regions of files.
+ * <p>
+ * For an exchange of the built-in server on a plain HTTP connection,
+ * the region is sent with {@link FileChannel#transferTo transferTo}
+ * straight to the socket channel of the connection, so that the bytes
+ * need not be copied through the Java heap, or on some platforms at all.
+ * For HTTPS, for an exchange whose response body stream has been
+ * replaced by a filter, or for an exchange of another implementation,
+ * the region is copied through the response body stream.
+ */
+public class FileResponses {
+
+    private FileResponses () {}
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    /**
+     * Sends the response headers with the given status code and a content
+     * length of {@code count}, followed by {@code count} bytes of the file
+     * starting at {@code position}, and then closes the exchange.
+     *
+     * @param exchange the exchange to respond to
+     * @param rCode the response code to send
+     * @param fc the file channel to read the response body from
+     * @param position the file position of the first byte to send
+     * @param count the number of bytes to send
+     * @throws IllegalArgumentException if position or count is negative
+     * @throws IOException if the file is shorter than position + count,
+     *         or if an I/O error occurs
+     */
+    public static void send (
+        HttpExchange exchange, int rCode, FileChannel fc, long position, long count
+    ) throws IOException {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException ("negative position or count");
+        }
+        try {
+            exchange.sendResponseHeaders (rCode, count == 0 ? -1 : count);
+            if (exchange instanceof HttpExchangeImpl) {
+                ExchangeImpl t = ExchangeImpl.get (exchange);
+                if (t.closed) {
+                    /* no content to send */
+                    return;
+                }
+                if (t.connection.getSSLEngine() == null
+                    && t.uos == t.uos_orig
+                    && t.uos_orig.wrapped instanceof FixedLengthOutputStream)
+                {
+                    transfer (t, fc, position, count);
+                    return;
+                }
+            }
+            if (count > 0 && !isEmptyResponse (exchange, rCode)) {
+                copy (exchange.getResponseBody(), fc, position, count);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /* true if no body may be sent for the request or response code */
+    private static boolean isEmptyResponse (HttpExchange exchange, int rCode) {
+        return (rCode >= 100 && rCode < 200) || rCode == 204 || rCode == 304
+            || "HEAD".equals (exchange.getRequestMethod());
+    }
+
+    private static void transfer (
+        ExchangeImpl t, FileChannel fc, long position, long count
+    ) throws IOException {
+        FixedLengthOutputStream os = (FixedLengthOutputStream)t.uos_orig.wrapped;
+        SocketChannel chan = t.getConnection().getChannel();
+        while (count > 0) {
+            long n = fc.transferTo (position, count, chan);
+            if (n <= 0) {
+                throw new EOFException ("unexpected end of file");
+            }
+            os.transferred (n);
+            position += n;
+            count -= n;
+        }
+    }
+
+    private static void copy (
+        OutputStream os, FileChannel fc, long position, long count
+    ) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate (
+            (int)Math.min (count, COPY_BUFFER_SIZE)
+        );
+        while (count > 0) {
+            buf.clear();
+            if (buf.remaining() > count) {
+                buf.limit ((int)count);
+            }
+            int n = fc.read (buf, position);
+            if (n <= 0) {
+                throw new EOFException ("unexpected end of file");
+            }
+            os.write (buf.array(), 0, n);
+            position += n;
+            count -= n;
+        }
+    }
+}
@@ -101,4 +101,17 @@ class FixedLengthOutputStream extends FilterOutputStream
     }
 
     // flush is a pass-through
+
+    /* called after n bytes of the body have been written to the
+     * channel directly, rather than through this stream
+     */
+    void transferred (long n) throws IOException {
+        if (closed) {
+            throw new IOException ("stream closed");
+        }
+        if (n > remaining) {
+            throw new IOException ("too many bytes to write to stream");
+        }
+        remaining -= n;
+    }
 }
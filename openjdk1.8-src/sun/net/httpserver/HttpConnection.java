@@ -193,4 +193,29 @@ class HttpConnection {
     HttpContextImpl getHttpContext () {
             return context;
     }
+
+    /* the event loop this connection is registered with, or null if
+     * it is handled by the server's single dispatcher
+     */
+    ServerImpl.EventLoop eventLoop;
+
+    /* pipelining state, guarded by this. pipelining is true while a
+     * ServerImpl.PipelinedExchange may run the next exchange on this
+     * connection, and pipelinedNext is true once it should do so
+     */
+    boolean pipelining;
+    boolean pipelinedNext;
+
+    synchronized void startPipelining () {
+        pipelining = true;
+    }
+
+    synchronized boolean nextPipelined () {
+        if (pipelinedNext) {
+            pipelinedNext = false;
+            return true;
+        }
+        pipelining = false;
+        return false;
+    }
 }
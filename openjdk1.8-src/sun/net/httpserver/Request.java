@@ -402,5 +402,14 @@ class Request {
             channel.close ();
             closed = true;
         }
+
+        /* writes all of src, used for the response headers */
+        public synchronized void write (ByteBuffer src) throws IOException {
+            if (closed)
+                throw new IOException ("stream is closed");
+            while (src.hasRemaining()) {
+                channel.write (src);
+            }
+        }
     }
 }
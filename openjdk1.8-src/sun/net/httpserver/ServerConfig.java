@@ -180,4 +180,29 @@ class ServerConfig {
     static boolean noDelay() {
         return noDelay;
     }
+
+    // the number of threads that connections are spread across. With
+    // the default of one, a single dispatcher thread accepts connections
+    // and waits for requests on all of them; with more, the dispatcher
+    // only accepts connections and hands them to that many event loops.
+    private static final int dispatcherThreads =
+        java.security.AccessController.doPrivileged(
+            new sun.security.action.GetIntegerAction(
+                "sun.net.httpserver.dispatcherThreads", 1)).intValue();
+
+    static int getDispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    // whether an exchange thread goes on to run requests that a client
+    // has pipelined on its connection. Enabled unless
+    // sun.net.httpserver.pipelining is set to false.
+    private static final boolean pipelining =
+        !"false".equalsIgnoreCase(java.security.AccessController.doPrivileged(
+            new sun.security.action.GetPropertyAction(
+                "sun.net.httpserver.pipelining")));
+
+    static boolean pipelining() {
+        return pipelining;
+    }
 }
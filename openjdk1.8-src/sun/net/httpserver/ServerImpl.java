@@ -103,11 +103,11 @@ class ServerImpl implements TimeSource {
         selector = Selector.open ();
         schan.configureBlocking (false);
         listenerKey = schan.register (selector, SelectionKey.OP_ACCEPT);
-        dispatcher = new Dispatcher();
-        idleConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
-        allConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
-        reqConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
-        rspConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
+        dispatcher = createDispatchers ();
+        idleConnections = newConnectionSet ();
+        allConnections = newConnectionSet ();
+        reqConnections = newConnectionSet ();
+        rspConnections = newConnectionSet ();
         time = System.currentTimeMillis();
         timer = new Timer ("server-timer", true);
         timer.schedule (new ServerTimerTask(), CLOCK_TICK, CLOCK_TICK);
@@ -143,7 +143,7 @@ class ServerImpl implements TimeSource {
         }
         Thread t = new Thread (dispatcher);
         started = true;
-        t.start();
+        startDispatchers (t);
     }
 
     public void setExecutor (Executor executor) {
@@ -193,7 +193,7 @@ class ServerImpl implements TimeSource {
             }
         }
         finished = true;
-        selector.wakeup();
+        wakeupDispatchers ();
         synchronized (allConnections) {
             for (HttpConnection c : allConnections) {
                 c.close();
@@ -260,7 +260,7 @@ class ServerImpl implements TimeSource {
         return selector;
     }
 
-    void addEvent (Event r) {
+    private void addEvent0 (Event r) {
         synchronized (lolock) {
             events.add (r);
             selector.wakeup();
@@ -368,7 +368,7 @@ class ServerImpl implements TimeSource {
                                 chan.socket().setTcpNoDelay(true);
                             }
 
-                            if (chan == null) {
+                            if (chan == null || handOff (chan)) {
                                 continue; /* cancel something ? */
                             }
                             chan.configureBlocking (false);
@@ -427,7 +427,7 @@ class ServerImpl implements TimeSource {
         throws IOException
         {
             try {
-                Exchange t = new Exchange (chan, protocol, conn);
+                Runnable t = newExchange (chan, conn);
                 executor.execute (t);
             } catch (HttpError e1) {
                 logger.log (Level.FINER, "Dispatcher (4)", e1);
@@ -877,4 +877,308 @@ class ServerImpl implements TimeSource {
             return secs * 1000;
         }
     }
+
+    /* Connection sets are updated from the dispatcher threads, the
+     * exchange threads and the timers, so they must not need a lock
+     */
+    private static Set<HttpConnection> newConnectionSet () {
+        return Collections.newSetFromMap (
+            new ConcurrentHashMap<HttpConnection,Boolean>()
+        );
+    }
+
+    /* the event loops that accepted connections are spread across, or
+     * null if the dispatcher handles all connections itself
+     */
+    private EventLoop[] eventLoops;
+    private int nextEventLoop;
+
+    /**
+     * Creates the dispatcher and, if sun.net.httpserver.dispatcherThreads
+     * is greater than one, the event loops it hands connections to. The
+     * dispatcher is then only an acceptor.
+     */
+    private Dispatcher createDispatchers () throws IOException {
+        int n = ServerConfig.getDispatcherThreads();
+        if (n > 1) {
+            EventLoop[] loops = new EventLoop[n];
+            try {
+                for (int i=0; i<n; i++) {
+                    loops[i] = new EventLoop (i);
+                }
+            } catch (IOException e) {
+                for (EventLoop loop : loops) {
+                    if (loop != null) {
+                        try { loop.selector.close(); } catch (IOException e1) {}
+                    }
+                }
+                throw e;
+            }
+            eventLoops = loops;
+            logger.config ("HttpServer dispatcher threads: "+n);
+        }
+        return new Dispatcher();
+    }
+
+    private void startDispatchers (Thread t) {
+        if (eventLoops != null) {
+            for (EventLoop loop : eventLoops) {
+                Thread lt = new Thread (loop, "HttpServer-dispatcher-"+loop.id);
+                lt.start();
+            }
+        }
+        t.start();
+    }
+
+    private void wakeupDispatchers () {
+        selector.wakeup();
+        if (eventLoops != null) {
+            for (EventLoop loop : eventLoops) {
+                loop.selector.wakeup();
+            }
+        }
+    }
+
+    /* Called by the dispatcher with a newly accepted channel. Returns
+     * true if the connection was handed to one of the event loops, and
+     * false if the dispatcher should handle it itself.
+     */
+    private boolean handOff (SocketChannel chan) {
+        if (eventLoops == null) {
+            return false;
+        }
+        EventLoop loop = eventLoops[nextEventLoop];
+        if (++nextEventLoop == eventLoops.length) {
+            nextEventLoop = 0;
+        }
+        HttpConnection c = new HttpConnection ();
+        c.setChannel (chan);
+        c.eventLoop = loop;
+        requestStarted (c);
+        allConnections.add (c);
+        loop.register (c);
+        return true;
+    }
+
+    void addEvent (Event r) {
+        if (r instanceof WriteFinishedEvent && pipelined (r)) {
+            return;
+        }
+        EventLoop loop = r.exchange.getConnection().eventLoop;
+        if (loop != null) {
+            loop.addEvent (r);
+        } else {
+            addEvent0 (r);
+        }
+    }
+
+    /* event loop for the connections handed off by the dispatcher. It
+     * does for its own connections what the dispatcher does for all
+     * connections in single dispatcher mode, using its own selector and
+     * lock free queues of events and connections to register.
+     */
+    class EventLoop implements Runnable {
+
+        final int id;
+        final Selector selector;
+        final ConcurrentLinkedQueue<Event> events =
+                new ConcurrentLinkedQueue<Event>();
+        final ConcurrentLinkedQueue<HttpConnection> connsToRegister =
+                new ConcurrentLinkedQueue<HttpConnection>();
+
+        EventLoop (int id) throws IOException {
+            this.id = id;
+            this.selector = Selector.open();
+        }
+
+        void addEvent (Event r) {
+            events.add (r);
+            selector.wakeup();
+        }
+
+        void register (HttpConnection c) {
+            connsToRegister.add (c);
+            selector.wakeup();
+        }
+
+        private void handleEvent (Event r) {
+            ExchangeImpl t = r.exchange;
+            HttpConnection c = t.getConnection();
+            try {
+                if (r instanceof WriteFinishedEvent) {
+
+                    int exchanges = endExchange();
+                    if (terminating && exchanges == 0) {
+                        finished = true;
+                    }
+                    responseCompleted (c);
+                    LeftOverInputStream is = t.getOriginalInputStream();
+                    if (!is.isEOF()) {
+                        t.close = true;
+                    }
+                    if (t.close || idleConnections.size() >= MAX_IDLE_CONNECTIONS) {
+                        c.close();
+                        allConnections.remove (c);
+                    } else {
+                        if (is.isDataBuffered()) {
+                            /* don't re-enable the interestops, just handle it */
+                            requestStarted (c);
+                            dispatcher.handle (c.getChannel(), c);
+                        } else {
+                            connsToRegister.add (c);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                logger.log (
+                    Level.FINER, "EventLoop (1)", e
+                );
+                c.close();
+            }
+        }
+
+        private void reRegister (HttpConnection c) {
+            try {
+                SocketChannel chan = c.getChannel();
+                chan.configureBlocking (false);
+                SelectionKey key = chan.register (selector, SelectionKey.OP_READ);
+                key.attach (c);
+                c.selectionKey = key;
+                if (c.getState() == State.IDLE) {
+                    c.time = getTime() + IDLE_INTERVAL;
+                    idleConnections.add (c);
+                }
+            } catch (IOException e) {
+                dprint(e);
+                logger.log(Level.FINER, "EventLoop (2)", e);
+                closeConnection (c);
+            }
+        }
+
+        public void run() {
+            while (!finished) {
+                try {
+                    Event r;
+                    while ((r = events.poll()) != null) {
+                        handleEvent (r);
+                    }
+
+                    HttpConnection c;
+                    while ((c = connsToRegister.poll()) != null) {
+                        reRegister (c);
+                    }
+
+                    selector.select(1000);
+
+                    /* process the selected list now  */
+                    Set<SelectionKey> selected = selector.selectedKeys();
+                    Iterator<SelectionKey> iter = selected.iterator();
+                    while (iter.hasNext()) {
+                        SelectionKey key = iter.next();
+                        iter.remove ();
+                        HttpConnection conn = (HttpConnection)key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                SocketChannel chan = (SocketChannel)key.channel();
+
+                                key.cancel();
+                                chan.configureBlocking (true);
+                                if (idleConnections.remove(conn)) {
+                                    // was an idle connection so add it
+                                    // to reqConnections set.
+                                    requestStarted (conn);
+                                }
+                                dispatcher.handle (chan, conn);
+                            } else {
+                                assert false;
+                            }
+                        } catch (CancelledKeyException e) {
+                            closeConnection (conn);
+                        } catch (IOException e) {
+                            logger.log (Level.FINER, "EventLoop (3)", e);
+                            closeConnection (conn);
+                        }
+                    }
+                    // call the selector just to process the cancelled keys
+                    selector.selectNow();
+                } catch (IOException e) {
+                    logger.log (Level.FINER, "EventLoop (4)", e);
+                } catch (Exception e) {
+                    logger.log (Level.FINER, "EventLoop (5)", e);
+                }
+            }
+            try {selector.close(); } catch (Exception e) {}
+        }
+    }
+
+    /* -- pipelining -- */
+
+    final static boolean PIPELINING = ServerConfig.pipelining();
+
+    /* Creates the task that runs the next exchange on a connection. With
+     * pipelining, the task goes on to run the requests that the client
+     * has already sent, each as soon as the previous response is complete,
+     * rather than handing the connection back to its dispatcher in between.
+     */
+    private Runnable newExchange (SocketChannel chan, HttpConnection conn)
+        throws IOException
+    {
+        Exchange t = new Exchange (chan, protocol, conn);
+        return PIPELINING ? new PipelinedExchange (t) : t;
+    }
+
+    class PipelinedExchange implements Runnable {
+        Exchange exchange;
+
+        PipelinedExchange (Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        public void run () {
+            HttpConnection c = exchange.connection;
+            c.startPipelining();
+            for (;;) {
+                exchange.run();
+                if (!c.nextPipelined()) {
+                    return;
+                }
+                try {
+                    exchange = new Exchange (exchange.chan, protocol, c);
+                } catch (IOException e) {
+                    logger.log (Level.FINER, "ServerImpl.PipelinedExchange", e);
+                    closeConnection (c);
+                    return;
+                }
+            }
+        }
+    }
+
+    /* Called when the response of an exchange has been written. If the
+     * exchange was run by a PipelinedExchange and the next request is
+     * already buffered, the connection stays with that task, which then
+     * runs the next exchange. Returns false if the event must be handled
+     * by the dispatcher as usual.
+     */
+    private boolean pipelined (Event r) {
+        ExchangeImpl t = r.exchange;
+        HttpConnection c = t.getConnection();
+        synchronized (c) {
+            if (!c.pipelining || c.closed || terminating || t.close) {
+                return false;
+            }
+            try {
+                LeftOverInputStream is = t.getOriginalInputStream();
+                if (!is.isEOF() || !is.isDataBuffered()) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+            endExchange();
+            responseCompleted (c);
+            requestStarted (c);
+            c.pipelinedNext = true;
+            return true;
+        }
+    }
 }
@@ -0,0 +1,810 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.net.www.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsynchronizedByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import sun.net.www.HeaderParser;
+import sun.net.www.MessageHeader;
+
+/**
+ * A non-blocking HTTP/1.1 client built on {@link AsynchronousSocketChannel}.
+ * Requests are queued per destination and return a {@link CompletableFuture}
+ * that is completed, on a channel group thread, once the response body has
+ * been read in full.
+ *
+ * <p> Each destination keeps at most {@code maxConnections} persistent
+ * connections. A connection carries one request at a time unless the
+ * request is a GET or HEAD, in which case up to {@code pipelineDepth}
+ * requests may be written ahead of their responses. Idempotent requests
+ * that fail because the server dropped an idle connection before sending
+ * any part of the response are retried once on a fresh connection.
+ *
+ * <p> Headers are serialized and parsed with {@link MessageHeader} exactly
+ * as {@link HttpClient} does; chunked bodies are decoded incrementally
+ * following the same rules as {@link ChunkedInputStream}. Only the
+ * {@code http} scheme is supported.
+ */
+public final class AsyncHttpClient implements Closeable {
+
+    /**
+     * A response whose body has been read in full.
+     */
+    public static final class Response {
+        private final int statusCode;
+        private final String statusLine;
+        private final MessageHeader headers;
+        private final byte[] body;
+
+        Response(int statusCode, String statusLine, MessageHeader headers,
+                 byte[] body) {
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int statusCode() {
+            return statusCode;
+        }
+
+        public String statusLine() {
+            return statusLine;
+        }
+
+        /**
+         * The response headers. As with {@link HttpClient}, the status line
+         * is the first entry, with a {@code null} key.
+         */
+        public MessageHeader headers() {
+            return headers;
+        }
+
+        public byte[] body() {
+            return body;
+        }
+    }
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 8;
+    private static final int DEFAULT_PIPELINE_DEPTH = 4;
+    private static final int DEFAULT_KEEP_ALIVE_MILLIS = 5000;
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_HEADER_SIZE = 64 * 1024;
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final AsynchronousChannelGroup group;
+    private final int maxConnections;
+    private final int pipelineDepth;
+    private final ConcurrentHashMap<String, Route> routes =
+        new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a client on the default channel group, with 8 connections
+     * per destination and a pipeline depth of 4.
+     */
+    public AsyncHttpClient() {
+        this(null, DEFAULT_MAX_CONNECTIONS, DEFAULT_PIPELINE_DEPTH);
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param group the channel group, or {@code null} for the default group
+     * @param maxConnections maximum connections kept per destination
+     * @param pipelineDepth maximum requests outstanding on one connection;
+     *        1 disables pipelining
+     */
+    public AsyncHttpClient(AsynchronousChannelGroup group, int maxConnections,
+                           int pipelineDepth) {
+        if (maxConnections < 1 || pipelineDepth < 1)
+            throw new IllegalArgumentException();
+        this.group = group;
+        this.maxConnections = maxConnections;
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    public CompletableFuture<Response> get(URL url) {
+        return send("GET", url, null, null);
+    }
+
+    /**
+     * Sends a request.
+     *
+     * @param method the request method
+     * @param url an {@code http} URL
+     * @param headers request headers, or {@code null}; {@code Host} and
+     *        {@code Content-Length} are supplied when absent
+     * @param body the request body, or {@code null}
+     */
+    public CompletableFuture<Response> send(String method, URL url,
+                                            MessageHeader headers,
+                                            byte[] body) {
+        CompletableFuture<Response> cf = new CompletableFuture<>();
+        if (!"http".equalsIgnoreCase(url.getProtocol())) {
+            cf.completeExceptionally(new IllegalArgumentException(
+                "unsupported protocol: " + url.getProtocol()));
+            return cf;
+        }
+        if (closed) {
+            cf.completeExceptionally(new IOException("client closed"));
+            return cf;
+        }
+        Exchange e;
+        try {
+            e = new Exchange(method, url, headers, body, cf);
+        } catch (IOException x) {
+            cf.completeExceptionally(x);
+            return cf;
+        }
+        int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        String key = url.getHost().toLowerCase() + ":" + port;
+        Route r = routes.get(key);
+        if (r == null) {
+            Route nr = new Route(url.getHost(), port);
+            r = routes.putIfAbsent(key, nr);
+            if (r == null)
+                r = nr;
+        }
+        r.dispatch(e);
+        return cf;
+    }
+
+    /**
+     * Closes all connections. Outstanding requests complete exceptionally.
+     */
+    public void close() {
+        closed = true;
+        IOException x = new IOException("client closed");
+        for (Route r : routes.values())
+            r.close(x);
+        routes.clear();
+    }
+
+    /*
+     * A request and the future it completes.
+     */
+    private static final class Exchange {
+        final ByteBuffer request;
+        final boolean pipelinable;
+        final boolean idempotent;
+        final boolean head;
+        final CompletableFuture<Response> future;
+        int attempts;
+
+        Exchange(String method, URL url, MessageHeader headers, byte[] body,
+                 CompletableFuture<Response> future) throws IOException {
+            MessageHeader req = new MessageHeader();
+            if (headers != null) {
+                for (int i = 0; ; i++) {
+                    String k = headers.getKey(i);
+                    String v = headers.getValue(i);
+                    if (k == null && v == null)
+                        break;
+                    if (k != null)
+                        req.add(k, v);
+                }
+            }
+            String path = url.getFile();
+            if (path.isEmpty())
+                path = "/";
+            req.prepend(method + " " + path + " HTTP/1.1", null);
+            int port = url.getPort();
+            req.setIfNotSet("Host", port == -1 || port == url.getDefaultPort()
+                            ? url.getHost() : url.getHost() + ":" + port);
+            if (body != null || method.equals("POST") || method.equals("PUT"))
+                req.set("Content-Length",
+                        String.valueOf(body == null ? 0 : body.length));
+
+            UnsynchronizedByteArrayOutputStream bos =
+                new UnsynchronizedByteArrayOutputStream(256);
+            req.print(new PrintStream(bos, false, "ISO-8859-1"));
+            if (body != null)
+                bos.write(body, 0, body.length);
+            this.request = bos.toByteBuffer();
+            this.head = method.equals("HEAD");
+            this.pipelinable = head || method.equals("GET");
+            this.idempotent = pipelinable || method.equals("PUT")
+                || method.equals("DELETE") || method.equals("OPTIONS")
+                || method.equals("TRACE");
+            this.future = future;
+        }
+    }
+
+    /*
+     * The connections and waiting requests for one host and port. All
+     * scheduling state, including that of the route's connections, is
+     * guarded by the route's monitor; futures are always completed and
+     * I/O always started outside it.
+     */
+    private final class Route {
+        final String host;
+        final int port;
+        final ArrayList<Connection> connections = new ArrayList<>();
+        final ArrayDeque<Exchange> pending = new ArrayDeque<>();
+
+        Route(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        void dispatch(Exchange e) {
+            synchronized (this) {
+                pending.add(e);
+            }
+            drain();
+        }
+
+        /*
+         * Assigns waiting requests to connections, in arrival order, until
+         * no connection can take the next one.
+         */
+        void drain() {
+            List<Connection> open = null, flush = null;
+            List<Connection> expired = null;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                Exchange e;
+                while (!closed && (e = pending.peek()) != null) {
+                    Connection c = select(e, now);
+                    if (c == null) {
+                        // drop connections that idled past their keep-alive
+                        // before opening new ones
+                        for (int i = connections.size() - 1; i >= 0; i--) {
+                            Connection ic = connections.get(i);
+                            if (ic.expired(now)) {
+                                ic.dead = true;
+                                connections.remove(i);
+                                if (expired == null)
+                                    expired = new ArrayList<>();
+                                expired.add(ic);
+                            }
+                        }
+                        if (connections.size() >= maxConnections)
+                            break;
+                        c = new Connection(this);
+                        connections.add(c);
+                        if (open == null)
+                            open = new ArrayList<>();
+                        open.add(c);
+                    } else if (c.connected) {
+                        if (flush == null)
+                            flush = new ArrayList<>();
+                        flush.add(c);
+                    }
+                    pending.poll();
+                    c.assign(e);
+                }
+            }
+            if (expired != null)
+                for (Connection c : expired)
+                    c.closeChannel();
+            if (open != null)
+                for (Connection c : open)
+                    c.connect();
+            if (flush != null)
+                for (Connection c : flush)
+                    c.flush();
+        }
+
+        /*
+         * Prefers an idle connection, then the least loaded connection
+         * that can pipeline this request.
+         */
+        private Connection select(Exchange e, long now) {
+            Connection best = null;
+            for (Connection c : connections) {
+                if (c.dead || c.closing)
+                    continue;
+                int load = c.load();
+                if (load == 0) {
+                    if (!c.expired(now))
+                        return c;
+                } else if (e.pipelinable && c.nonPipelinable == 0
+                           && load < pipelineDepth
+                           && (best == null || load < best.load())) {
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        void close(IOException x) {
+            List<Connection> conns;
+            List<Exchange> waiting;
+            synchronized (this) {
+                conns = new ArrayList<>(connections);
+                waiting = new ArrayList<>(pending);
+                pending.clear();
+            }
+            for (Connection c : conns)
+                c.abort(x, false);
+            for (Exchange e : waiting)
+                e.future.completeExceptionally(x);
+        }
+    }
+
+    // response parser states
+    private static final int HEADERS = 0;
+    private static final int BODY_FIXED = 1;
+    private static final int BODY_EOF = 2;
+    private static final int CHUNK_SIZE = 3;
+    private static final int CHUNK_DATA = 4;
+    private static final int CHUNK_END = 5;
+    private static final int TRAILERS = 6;
+
+    /*
+     * A persistent connection. At most one read and one write are
+     * outstanding at any time, so the parser state is only touched by the
+     * read completion handler. A read is kept posted while the connection
+     * is idle so that a close by the server is noticed promptly.
+     */
+    private final class Connection {
+        final Route route;
+        volatile AsynchronousSocketChannel ch;
+
+        // guarded by route
+        final ArrayDeque<Exchange> unsent = new ArrayDeque<>();
+        final ArrayDeque<Exchange> sent = new ArrayDeque<>();
+        int nonPipelinable;
+        boolean connected, writing, closing, dead;
+        long idleSince;
+        long keepAlive = DEFAULT_KEEP_ALIVE_MILLIS;
+
+        // parser state, owned by the read handler
+        ByteBuffer rbuf = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        int state = HEADERS;
+        long remaining;
+        int statusCode;
+        String statusLine;
+        MessageHeader headers;
+        UnsynchronizedByteArrayOutputStream body;
+        boolean closeAfter;
+
+        Connection(Route route) {
+            this.route = route;
+        }
+
+        int load() {
+            return unsent.size() + sent.size();
+        }
+
+        boolean expired(long now) {
+            return connected && load() == 0 && now - idleSince >= keepAlive;
+        }
+
+        void assign(Exchange e) {
+            unsent.add(e);
+            if (!e.pipelinable)
+                nonPipelinable++;
+        }
+
+        void connect() {
+            try {
+                AsynchronousSocketChannel c = group == null
+                    ? AsynchronousSocketChannel.open()
+                    : AsynchronousSocketChannel.open(group);
+                c.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                ch = c;
+                c.connect(new InetSocketAddress(route.host, route.port), null,
+                          new CompletionHandler<Void,Void>() {
+                    public void completed(Void v, Void a) {
+                        synchronized (route) {
+                            connected = true;
+                        }
+                        read();
+                        flush();
+                    }
+                    public void failed(Throwable x, Void a) {
+                        abort(x, true);
+                    }
+                });
+            } catch (IOException | RuntimeException x) {
+                abort(x, true);
+            }
+        }
+
+        /*
+         * Writes the next unsent request, if no write is in progress.
+         */
+        void flush() {
+            Exchange e;
+            synchronized (route) {
+                if (writing || !connected || dead)
+                    return;
+                e = unsent.poll();
+                if (e == null)
+                    return;
+                sent.add(e);
+                writing = true;
+            }
+            write(e.request.duplicate());
+        }
+
+        private void write(ByteBuffer buf) {
+            try {
+                ch.write(buf, buf, writeHandler);
+            } catch (RuntimeException x) {
+                abort(x, true);
+            }
+        }
+
+        private final CompletionHandler<Integer,ByteBuffer> writeHandler =
+            new CompletionHandler<Integer,ByteBuffer>() {
+            public void completed(Integer n, ByteBuffer buf) {
+                if (buf.hasRemaining()) {
+                    write(buf);
+                    return;
+                }
+                synchronized (route) {
+                    writing = false;
+                }
+                flush();
+            }
+            public void failed(Throwable x, ByteBuffer buf) {
+                abort(x, true);
+            }
+        };
+
+        private void read() {
+            try {
+                ch.read(rbuf, null, readHandler);
+            } catch (RuntimeException x) {
+                abort(x, true);
+            }
+        }
+
+        private final CompletionHandler<Integer,Void> readHandler =
+            new CompletionHandler<Integer,Void>() {
+            public void completed(Integer n, Void a) {
+                if (n < 0) {
+                    eof();
+                    return;
+                }
+                rbuf.flip();
+                try {
+                    parse();
+                } catch (IOException | RuntimeException x) {
+                    abort(x, false);
+                    return;
+                }
+                rbuf.compact();
+                if (!rbuf.hasRemaining()) {
+                    if (rbuf.capacity() >= MAX_HEADER_SIZE) {
+                        abort(new IOException("response header too large"),
+                              false);
+                        return;
+                    }
+                    ByteBuffer nb = ByteBuffer.allocate(rbuf.capacity() * 2);
+                    rbuf.flip();
+                    nb.put(rbuf);
+                    rbuf = nb;
+                }
+                boolean stop;
+                synchronized (route) {
+                    stop = dead;
+                }
+                if (!stop)
+                    read();
+            }
+            public void failed(Throwable x, Void a) {
+                abort(x, !responseStarted());
+            }
+        };
+
+        private boolean responseStarted() {
+            return state != HEADERS || rbuf.position() > 0;
+        }
+
+        private void eof() {
+            if (state == BODY_EOF) {
+                complete();
+                return;
+            }
+            abort(new EOFException("connection closed by server"),
+                  !responseStarted());
+        }
+
+        /*
+         * Consumes as much of rbuf as possible, completing every response
+         * read in full.
+         */
+        private void parse() throws IOException {
+            for (;;) {
+                switch (state) {
+                case HEADERS:
+                    if (!parseHeaders())
+                        return;
+                    break;
+                case BODY_FIXED:
+                case CHUNK_DATA:
+                    int take = (int) Math.min(remaining, rbuf.remaining());
+                    if (take == 0)
+                        return;
+                    body.write(rbuf.array(), rbuf.position(), take);
+                    rbuf.position(rbuf.position() + take);
+                    remaining -= take;
+                    if (remaining == 0) {
+                        if (state == BODY_FIXED) {
+                            if (!complete())
+                                return;
+                        } else {
+                            state = CHUNK_END;
+                        }
+                    }
+                    break;
+                case BODY_EOF:
+                    body.write(rbuf.array(), rbuf.position(), rbuf.remaining());
+                    rbuf.position(rbuf.limit());
+                    return;
+                case CHUNK_SIZE: {
+                    String line = readLine();
+                    if (line == null)
+                        return;
+                    int semi = line.indexOf(';');
+                    String size = (semi < 0 ? line : line.substring(0, semi))
+                        .trim();
+                    try {
+                        remaining = Long.parseLong(size, 16);
+                    } catch (NumberFormatException x) {
+                        throw new IOException("Bogus chunk size");
+                    }
+                    if (remaining < 0)
+                        throw new IOException("Bogus chunk size");
+                    state = remaining == 0 ? TRAILERS : CHUNK_DATA;
+                    break;
+                }
+                case CHUNK_END: {
+                    String line = readLine();
+                    if (line == null)
+                        return;
+                    if (!line.isEmpty())
+                        throw new IOException("missing CRLF");
+                    state = CHUNK_SIZE;
+                    break;
+                }
+                case TRAILERS: {
+                    // trailers are read and discarded, as ChunkedInputStream does
+                    String line = readLine();
+                    if (line == null)
+                        return;
+                    if (line.isEmpty() && !complete())
+                        return;
+                    break;
+                }
+                }
+            }
+        }
+
+        /*
+         * Parses a complete header block, if rbuf holds one. Returns false
+         * if more input is needed or the connection is being closed.
+         */
+        private boolean parseHeaders() throws IOException {
+            byte[] b = rbuf.array();
+            int start = rbuf.position(), limit = rbuf.limit();
+            // skip stray line terminators between responses
+            while (start < limit && (b[start] == '\r' || b[start] == '\n'))
+                start++;
+            rbuf.position(start);
+            int end = -1;
+            for (int i = start; i < limit; i++) {
+                if (b[i] != '\n')
+                    continue;
+                if (i + 1 < limit && b[i + 1] == '\n') {
+                    end = i + 2;
+                    break;
+                }
+                if (i + 2 < limit && b[i + 1] == '\r' && b[i + 2] == '\n') {
+                    end = i + 3;
+                    break;
+                }
+            }
+            if (end < 0)
+                return false;
+            MessageHeader h = new MessageHeader(
+                new ByteArrayInputStream(b, start, end - start));
+            rbuf.position(end);
+
+            String sl = h.getKey(0) == null ? h.getValue(0) : null;
+            int code;
+            try {
+                code = Integer.parseInt(sl.substring(9, 12));
+            } catch (RuntimeException x) {
+                throw new IOException("Invalid Http response");
+            }
+            if (code >= 100 && code < 200)
+                return true;                // interim response, skip it
+
+            Exchange e;
+            synchronized (route) {
+                e = sent.peek();
+            }
+            if (e == null)
+                throw new IOException("unsolicited response");
+
+            statusCode = code;
+            statusLine = sl;
+            headers = h;
+            String conn = h.findValue("Connection");
+            closeAfter = "close".equalsIgnoreCase(conn)
+                || (sl.startsWith("HTTP/1.0")
+                    && !"keep-alive".equalsIgnoreCase(conn));
+            String ka = h.findValue("Keep-Alive");
+            if (ka != null) {
+                int timeout = new HeaderParser(ka).findInt("timeout", -1);
+                if (timeout > 0) {
+                    synchronized (route) {
+                        keepAlive = timeout * 1000L;
+                    }
+                }
+            }
+
+            body = new UnsynchronizedByteArrayOutputStream();
+            String te = h.findValue("Transfer-Encoding");
+            String cl = h.findValue("Content-Length");
+            if (e.head || code == 204 || code == 304) {
+                remaining = 0;
+                state = BODY_FIXED;
+                return complete();
+            } else if (te != null && te.toLowerCase().contains("chunked")) {
+                state = CHUNK_SIZE;
+            } else if (cl != null) {
+                try {
+                    remaining = Long.parseLong(cl.trim());
+                } catch (NumberFormatException x) {
+                    throw new IOException("Invalid Content-Length");
+                }
+                state = BODY_FIXED;
+                if (remaining <= 0)
+                    return complete();
+            } else {
+                state = BODY_EOF;
+                closeAfter = true;
+            }
+            return true;
+        }
+
+        /*
+         * Returns the next line without its terminator, or null if rbuf
+         * does not yet hold a complete line.
+         */
+        private String readLine() {
+            byte[] b = rbuf.array();
+            int start = rbuf.position(), limit = rbuf.limit();
+            for (int i = start; i < limit; i++) {
+                if (b[i] == '\n') {
+                    int end = i > start && b[i - 1] == '\r' ? i - 1 : i;
+                    rbuf.position(i + 1);
+                    return new String(b, start, end - start,
+                                      java.nio.charset.StandardCharsets.ISO_8859_1);
+                }
+            }
+            return null;
+        }
+
+        /*
+         * Completes the response at the head of the pipeline. Returns false
+         * if the connection is being closed and parsing should stop.
+         */
+        private boolean complete() {
+            Response r = new Response(statusCode, statusLine, headers,
+                                      body.toByteArray());
+            Exchange e;
+            synchronized (route) {
+                e = sent.poll();
+                if (e != null && !e.pipelinable)
+                    nonPipelinable--;
+                if (closeAfter)
+                    closing = true;
+                idleSince = System.currentTimeMillis();
+            }
+            state = HEADERS;
+            headers = null;
+            body = null;
+            if (e != null)
+                e.future.complete(r);
+            if (closeAfter) {
+                // the server closes after this response; requests already
+                // written to this connection are moved to another one
+                abort(new IOException("connection closed by server"), true);
+                return false;
+            }
+            route.drain();
+            return true;
+        }
+
+        /*
+         * Closes the connection and fails, or requeues, the requests on it.
+         * If the connection was never established then each request counts
+         * the failure as an attempt, so that an unreachable host fails the
+         * requests rather than being reconnected to forever. Otherwise
+         * requests never written are always requeued. Written requests are
+         * replayed only if idempotent, and the one at the head of the
+         * pipeline only when retry is true, i.e. no part of its response
+         * has been seen.
+         */
+        void abort(Throwable x, boolean retry) {
+            List<Exchange> all = new ArrayList<>();
+            int written;
+            boolean established;
+            synchronized (route) {
+                if (dead)
+                    return;
+                dead = true;
+                established = connected;
+                route.connections.remove(this);
+                all.addAll(sent);
+                all.addAll(unsent);
+                written = sent.size();
+                sent.clear();
+                unsent.clear();
+            }
+            closeChannel();
+            for (int i = 0; i < all.size(); i++) {
+                Exchange e = all.get(i);
+                boolean replay;
+                if (!established) {
+                    replay = !closed && ++e.attempts < MAX_ATTEMPTS;
+                } else {
+                    replay = !closed && (i >= written
+                        || ((retry || i > 0) && e.idempotent
+                            && ++e.attempts < MAX_ATTEMPTS));
+                }
+                if (replay)
+                    route.dispatch(e);
+                else
+                    e.future.completeExceptionally(x);
+            }
+            route.drain();
+        }
+
+        void closeChannel() {
+            AsynchronousSocketChannel c = ch;
+            if (c != null) {
+                try {
+                    c.close();
+                } catch (IOException ignore) { }
+            }
+        }
+    }
+}
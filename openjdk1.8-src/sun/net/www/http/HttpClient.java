@@ -90,7 +90,7 @@ public class HttpClient extends NetworkClient {
     protected int port;
 
     /* where we cache currently open, persistent connections */
-    protected static KeepAliveCache kac = new KeepAliveCache();
+    protected static KeepAliveCache kac = KeepAlivePool.newCache();
 
     private static boolean keepAliveProp = true;
 
@@ -1075,4 +1075,27 @@ public class HttpClient extends NetworkClient {
             return ((InetSocketAddress)proxy.address()).getPort();
         return -1;
     }
+
+    /*
+     * Checks whether this idle connection may be reused. The connection
+     * must be open with no unsolicited data from the server pending; if
+     * probe is true, it is also checked that the server has not closed
+     * its end, which takes a read with a short timeout.
+     */
+    boolean isReusable(boolean probe) {
+        Socket s = serverSocket;
+        if (s == null || s.isClosed() || s.isInputShutdown()
+                || s.isOutputShutdown()) {
+            return false;
+        }
+        try {
+            if (s.getInputStream().available() > 0) {
+                logFinest("HttpClient.isReusable(): unexpected data");
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return !probe || available();
+    }
 }
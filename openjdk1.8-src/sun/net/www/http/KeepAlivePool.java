@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.net.www.http;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import sun.misc.PerfCounter;
+
+/**
+ * A keep-alive cache that does not lock the whole cache.
+ *
+ * <p> Idle connections are pooled per destination. Each pool is
+ * a lock-free deque: connections are reused most recently idle first, and
+ * the Keep-Alive-Timer evicts them from the other end once they have been
+ * idle for longer than the keep-alive timeout of the server, or a default
+ * of 5 seconds. The following system properties configure the pools:
+ * <ul>
+ * <li> {@code http.maxConnections}: the maximum number of idle
+ *      connections per destination, 5 by default, as before
+ * <li> {@code sun.net.http.keepAlive.maxIdle}: the maximum number of idle
+ *      connections in total, unlimited by default
+ * <li> {@code sun.net.http.keepAlive.idleTimeout}: the time in
+ *      milliseconds after which idle connections are evicted if the
+ *      server did not specify a keep-alive timeout, 5000 by default
+ * <li> {@code sun.net.http.keepAlive.validateAfterInactivity}: the idle
+ *      time in milliseconds after which a connection is probed before
+ *      reuse, 2000 by default; a negative value disables the probe
+ * <li> {@code sun.net.http.keepAlive.legacyCache}: if true, the
+ *      synchronized {@link KeepAliveCache} is used instead of this class
+ * </ul>
+ * Every connection is checked before it is reused, see
+ * {@link HttpClient#isReusable}. Pool hits, misses and evictions are
+ * counted, and are published as performance counters by the
+ * Keep-Alive-Timer.
+ */
+public class KeepAlivePool extends KeepAliveCache {
+    private static final long serialVersionUID = 4163398460239390358L;
+
+    static final int MAX_IDLE_PER_ROUTE = getMaxConnections();
+    static final int MAX_IDLE = getIntProperty(
+        "sun.net.http.keepAlive.maxIdle", Integer.MAX_VALUE);
+    static final int IDLE_TIMEOUT = getIntProperty(
+        "sun.net.http.keepAlive.idleTimeout", LIFETIME);
+    static final int VALIDATE_AFTER = java.security.AccessController.doPrivileged(
+        new sun.security.action.GetIntegerAction(
+            "sun.net.http.keepAlive.validateAfterInactivity", 2000)).intValue();
+
+    /* interval of the Keep-Alive-Timer */
+    private static final int SWEEP_INTERVAL = 1000;
+
+    /* returns the positive value of the property, or the default */
+    private static int getIntProperty(String name, int defaultValue) {
+        int value = java.security.AccessController.doPrivileged(
+            new sun.security.action.GetIntegerAction(name, defaultValue))
+            .intValue();
+        return (value > 0) ? value : defaultValue;
+    }
+
+    /**
+     * Returns the keep-alive cache to be shared by all HttpClients.
+     */
+    static KeepAliveCache newCache() {
+        boolean legacy = java.security.AccessController.doPrivileged(
+            new sun.security.action.GetBooleanAction(
+                "sun.net.http.keepAlive.legacyCache")).booleanValue();
+        return legacy ? new KeepAliveCache() : new KeepAlivePool();
+    }
+
+    /* the destination of a connection: protocol, host, port and an
+     * additional key, such as the socket factory, compared by identity */
+    private static final class RouteKey {
+        private final String protocol;
+        private final String host;
+        private final int port;
+        private final Object obj;
+
+        RouteKey(URL url, Object obj) {
+            this.protocol = url.getProtocol();
+            this.host = url.getHost();
+            this.port = url.getPort();
+            this.obj = obj;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RouteKey))
+                return false;
+            RouteKey k = (RouteKey)o;
+            return host.equals(k.host)
+                && (port == k.port)
+                && protocol.equals(k.protocol)
+                && obj == k.obj;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = (protocol + host + port).hashCode();
+            return (obj == null) ? h : h + obj.hashCode();
+        }
+    }
+
+    /* an idle connection and the time at which it became idle */
+    private static final class IdleConnection {
+        final HttpClient hc;
+        final long idleStartTime;
+
+        IdleConnection(HttpClient hc, long idleStartTime) {
+            this.hc = hc;
+            this.idleStartTime = idleStartTime;
+        }
+    }
+
+    /* the idle connections to one destination */
+    private static class Route {
+        final ConcurrentLinkedDeque<IdleConnection> idle =
+            new ConcurrentLinkedDeque<IdleConnection>();
+        /* number of entries, counted before they are added and after they
+         * are removed; -1 once the timer has discarded the empty route */
+        final AtomicInteger size = new AtomicInteger();
+        final int nap;
+
+        Route(int nap) {
+            this.nap = nap;
+        }
+    }
+
+    private final ConcurrentHashMap<RouteKey, Route> routes =
+        new ConcurrentHashMap<RouteKey, Route>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicBoolean timerRunning = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public KeepAlivePool() {}
+
+    /**
+     * Register this URL and HttpClient (that supports keep-alive) with the cache
+     * @param url  The URL contains info about the host and port
+     * @param http The HttpClient to be cached
+     */
+    @Override
+    public void put(final URL url, Object obj, HttpClient http) {
+        RouteKey key = new RouteKey(url, obj);
+        IdleConnection e = new IdleConnection(http, System.currentTimeMillis());
+        for (;;) {
+            Route route = routes.get(key);
+            if (route == null) {
+                int keepAliveTimeout = http.getKeepAliveTimeout();
+                Route r = new Route(keepAliveTimeout > 0 ?
+                                    keepAliveTimeout * 1000 : IDLE_TIMEOUT);
+                route = routes.putIfAbsent(key, r);
+                if (route == null) {
+                    route = r;
+                }
+            }
+            int size = route.size.get();
+            if (size < 0) {
+                // the route was discarded by the timer meanwhile, try again
+                routes.remove(key, route);
+                continue;
+            }
+            if (size >= MAX_IDLE_PER_ROUTE) {
+                evict(http);
+                return;
+            }
+            if (!route.size.compareAndSet(size, size + 1)) {
+                continue;
+            }
+            // the route cannot be discarded while its size is positive
+            if (idleCount.incrementAndGet() > MAX_IDLE) {
+                idleCount.decrementAndGet();
+                route.size.decrementAndGet();
+                evict(http);
+                return;
+            }
+            route.idle.addFirst(e);
+            break;
+        }
+        if (!timerRunning.get() && timerRunning.compareAndSet(false, true)) {
+            startTimer();
+        }
+    }
+
+    /* remove an obsolete HttpClient from its pool */
+    @Override
+    public void remove(HttpClient h, Object obj) {
+        Route route = routes.get(new RouteKey(h.url, obj));
+        if (route != null) {
+            for (IdleConnection e : route.idle) {
+                if (e.hc == h) {
+                    unlink(route, e);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check to see if this URL has a cached HttpClient
+     */
+    @Override
+    public HttpClient get(URL url, Object obj) {
+        Route route = routes.get(new RouteKey(url, obj));
+        if (route != null) {
+            IdleConnection e;
+            while ((e = route.idle.pollFirst()) != null) {
+                route.size.decrementAndGet();
+                idleCount.decrementAndGet();
+                long idleTime = System.currentTimeMillis() - e.idleStartTime;
+                if (idleTime > route.nap) {
+                    evict(e.hc);
+                } else if (!e.hc.isReusable(VALIDATE_AFTER >= 0
+                                           && idleTime > VALIDATE_AFTER)) {
+                    evict(e.hc);
+                } else {
+                    hits.increment();
+                    return e.hc;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /* removes the given entry, returns false if it was already gone */
+    private boolean unlink(Route route, IdleConnection e) {
+        if (route.idle.removeFirstOccurrence(e)) {
+            route.size.decrementAndGet();
+            idleCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void evict(HttpClient h) {
+        evictions.increment();
+        h.closeServer();
+    }
+
+    private void startTimer() {
+        final KeepAlivePool pool = this;
+        java.security.AccessController.doPrivileged(
+            new java.security.PrivilegedAction<Void>() {
+            public Void run() {
+                // We want to create the Keep-Alive-Timer in the
+                // system threadgroup
+                ThreadGroup grp = Thread.currentThread().getThreadGroup();
+                ThreadGroup parent = null;
+                while ((parent = grp.getParent()) != null) {
+                    grp = parent;
+                }
+
+                Thread t = new Thread(grp, pool, "Keep-Alive-Timer");
+                t.setDaemon(true);
+                t.setPriority(Thread.MAX_PRIORITY - 2);
+                // Set the context class loader to null in order to avoid
+                // keeping a strong reference to an application classloader.
+                t.setContextClassLoader(null);
+                t.start();
+                return null;
+            }
+        });
+    }
+
+    /* Evicts the connections that have timed out, least recently used
+     * first, and publishes the counters. Exits when no connections are
+     * left, to be started again by the next put.
+     */
+    @Override
+    public void run() {
+        for (;;) {
+            try {
+                Thread.sleep(SWEEP_INTERVAL);
+            } catch (InterruptedException e) {}
+            long currentTime = System.currentTimeMillis();
+            for (Map.Entry<RouteKey, Route> me : routes.entrySet()) {
+                Route route = me.getValue();
+                Iterator<IdleConnection> it = route.idle.descendingIterator();
+                while (it.hasNext()) {
+                    IdleConnection e = it.next();
+                    if ((currentTime - e.idleStartTime) <= route.nap) {
+                        break;
+                    }
+                    if (unlink(route, e)) {
+                        evict(e.hc);
+                    }
+                }
+                // mark the empty route dead first, so that a concurrent put
+                // cannot add to it once it has been removed
+                if (route.size.compareAndSet(0, -1)) {
+                    routes.remove(me.getKey(), route);
+                }
+            }
+            publishCounters();
+            if (idleCount.get() == 0) {
+                timerRunning.set(false);
+                // a put may have missed the timer while it was stopping
+                if (idleCount.get() == 0
+                        || !timerRunning.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void publishCounters() {
+        PerfCounter.getKeepAliveHits().set(hits.sum());
+        PerfCounter.getKeepAliveMisses().set(misses.sum());
+        PerfCounter.getKeepAliveEvictions().set(evictions.sum());
+        PerfCounter.getKeepAliveIdle().set(idleCount.get());
+    }
+
+    /* number of connections reused from the pool */
+    long hits() {
+        return hits.sum();
+    }
+
+    /* number of requests for which no connection could be reused */
+    long misses() {
+        return misses.sum();
+    }
+
+    /* number of idle connections closed rather than reused */
+    long evictions() {
+        return evictions.sum();
+    }
+
+    /* number of idle connections in the pool */
+    int idleCount() {
+        return idleCount.get();
+    }
+
+    /*
+     * Do not serialize this class!
+     */
+    private void writeObject(java.io.ObjectOutputStream stream)
+    throws IOException {
+        throw new java.io.NotSerializableException();
+    }
+
+    private void readObject(java.io.ObjectInputStream stream)
+    throws IOException, ClassNotFoundException {
+        throw new java.io.NotSerializableException();
+    }
+}
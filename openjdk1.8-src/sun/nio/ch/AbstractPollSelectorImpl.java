@@ -113,7 +113,7 @@ abstract class AbstractPollSelectorImpl
      * of the corresponding Channels. Add the ready keys to the
      * ready queue.
      */
-    protected int updateSelectedKeys() {
+    private int updateSelectedKeys0() {
         int numKeysUpdated = 0;
         // Skip zeroth entry; it is for interrupts only
         for (int i=channelOffset; i<totalChannels; i++) {
@@ -193,4 +193,28 @@ abstract class AbstractPollSelectorImpl
         if (!selch.isOpen() && !selch.isRegistered())
             ((SelChImpl)selch).kill();
     }
+
+    /**
+     * Copy the information in the pollfd structs into the opss
+     * of the corresponding Channels. Add the ready keys to the
+     * ready queue, or hand them to the pending select action.
+     */
+    protected int updateSelectedKeys() {
+        if (!isCollectingReadyKeys())
+            return updateSelectedKeys0();
+        int numKeysUpdated = 0;
+        // Skip zeroth entry; it is for interrupts only
+        for (int i=channelOffset; i<totalChannels; i++) {
+            int rOps = pollWrapper.getReventOps(i);
+            if (rOps != 0) {
+                pollWrapper.putReventOps(i, 0);
+                numKeysUpdated += addReadyKey(channelArray[i], rOps);
+            }
+        }
+        return numKeysUpdated;
+    }
+
+    protected boolean canCollectReadyKeys() {
+        return true;
+    }
 }
@@ -120,7 +120,7 @@ abstract class AsynchronousChannelGroupImpl
             public Void run() {
                 // internal threads should not be visible to application so
                 // cannot use user-supplied thread factory
-                ThreadPool.defaultThreadFactory().newThread(task).start();
+                ThreadPool.defaultThreadFactory().newThread(bindInternalThread(task)).start();
                 return null;
             }
          });
@@ -156,7 +156,7 @@ abstract class AsynchronousChannelGroupImpl
     final int threadExit(Runnable task, boolean replaceMe) {
         if (replaceMe) {
             try {
-                if (Invoker.isBoundToAnyGroup()) {
+                if (Invoker.isBoundToPooledThread()) {
                     // submit new task to replace this thread
                     pool.executor().execute(bindToGroup(task));
                 } else {
@@ -338,4 +338,20 @@ abstract class AsynchronousChannelGroupImpl
         }
         executeOnPooledThread(task);
     }
+
+    /**
+     * Binds an internal thread to this group when internal threads may invoke
+     * completion handlers directly.
+     */
+    private Runnable bindInternalThread(final Runnable task) {
+        if (!Invoker.invokeOnInternalThreads)
+            return task;
+        final AsynchronousChannelGroupImpl thisGroup = this;
+        return new Runnable() {
+            public void run() {
+                Invoker.bindInternalThreadToGroup(thisGroup);
+                task.run();
+            }
+        };
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.nio.ch;
+
+import java.lang.management.PlatformManagedObject;
+import java.util.Map;
+
+/**
+ * The management interface for the I/O statistics of socket, datagram and
+ * file channels. Each statistics attribute maps a counter name to its
+ * value, summed over all channels of one kind since statistics collection
+ * was enabled:
+ *
+ * <ul>
+ *   <li> {@code readOps}, {@code writeOps}: read and write operations
+ *   <li> {@code readBytes}, {@code writeBytes}: bytes transferred
+ *   <li> {@code partialWrites}: writes that transferred fewer bytes than
+ *        were remaining in the source buffers
+ *   <li> {@code readNanos}, {@code writeNanos}: time spent in the
+ *        operations once the channel's lock was held, which is mostly
+ *        time in, or blocked in, the native calls
+ *   <li> {@code readLockWaitNanos}, {@code writeLockWaitNanos}: time
+ *        spent waiting for the channel's read, write or position lock
+ * </ul>
+ *
+ * <p> The object name of this MXBean is {@code java.nio:type=ChannelIO}.
+ */
+public interface ChannelIOMXBean extends PlatformManagedObject {
+
+    /**
+     * Tells whether statistics are being collected, as requested with
+     * {@code -Dsun.nio.ch.ioStatistics=true}.
+     */
+    boolean isEnabled();
+
+    Map<String, Long> getSocketStatistics();
+
+    Map<String, Long> getDatagramStatistics();
+
+    Map<String, Long> getFileStatistics();
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.nio.ch;
+
+import java.nio.channels.Channel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.ObjectName;
+import sun.management.Util;
+
+/**
+ * Opt-in I/O statistics for socket, datagram and file channels.
+ *
+ * <p> Collection is enabled with {@code -Dsun.nio.ch.ioStatistics=true}.
+ * When it is disabled channels carry no statistics object and each
+ * instrumented operation costs one null check. When it is enabled every
+ * channel counts its own operations, available through {@link #of}, and
+ * the totals for each kind of channel are published by the platform
+ * {@link ChannelIOMXBean}.
+ */
+public final class ChannelIOStatistics {
+
+    static final boolean ENABLED = java.security.AccessController.doPrivileged(
+        new sun.security.action.GetBooleanAction(
+            "sun.nio.ch.ioStatistics")).booleanValue();
+
+    private static final String MXBEAN_NAME = "java.nio:type=ChannelIO";
+
+    /*
+     * The counters for one direction, of one channel or of all channels
+     * of a kind.
+     */
+    static final class Counters {
+        final LongAdder ops = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder partial = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder lockWaitNanos = new LongAdder();
+
+        void add(long lockWait, long time, long n, boolean partialWrite) {
+            add(1, lockWait, time, n, partialWrite);
+        }
+
+        void add(long count, long lockWait, long time, long n,
+                 boolean partialWrite) {
+            ops.add(count);
+            if (n > 0)
+                bytes.add(n);
+            if (partialWrite)
+                partial.increment();
+            nanos.add(time);
+            if (lockWait > 0)
+                lockWaitNanos.add(lockWait);
+        }
+    }
+
+    private static final Counters[] totals = new Counters[6];
+    static {
+        for (int i = 0; i < totals.length; i++)
+            totals[i] = new Counters();
+    }
+
+    static final int SOCKET = 0;
+    static final int DATAGRAM = 2;
+    static final int FILE = 4;
+
+    /**
+     * The statistics of one channel.
+     */
+    public static final class Stats {
+        private final Counters read = new Counters();
+        private final Counters write = new Counters();
+        private final Counters totalRead;
+        private final Counters totalWrite;
+
+        private Stats(int kind) {
+            totalRead = totals[kind];
+            totalWrite = totals[kind + 1];
+        }
+
+        /*
+         * Records a read that waited lockWait nanoseconds for the lock,
+         * then took time nanoseconds and returned n.
+         */
+        void read(long lockWait, long time, long n) {
+            read.add(lockWait, time, n, false);
+            totalRead.add(lockWait, time, n, false);
+        }
+
+        /*
+         * Records a write of n bytes out of the requested bytes.
+         */
+        void write(long lockWait, long time, long n, long requested) {
+            boolean partial = n >= 0 && n < requested;
+            write.add(lockWait, time, n, partial);
+            totalWrite.add(lockWait, time, n, partial);
+        }
+
+        /*
+         * Records a batch receive that waited lockWait nanoseconds for the
+         * lock, then took time nanoseconds to receive count datagrams
+         * holding n bytes. Each datagram counts as one operation.
+         */
+        void readBatch(long lockWait, long time, int count, long n) {
+            read.add(count, lockWait, time, n, false);
+            totalRead.add(count, lockWait, time, n, false);
+        }
+
+        /*
+         * Records a batch send of count datagrams, holding n bytes, out of
+         * the requested datagrams. A batch that stops early counts as one
+         * partial write.
+         */
+        void writeBatch(long lockWait, long time, int count, long n,
+                        int requested) {
+            boolean partial = count < requested;
+            write.add(count, lockWait, time, n, partial);
+            totalWrite.add(count, lockWait, time, n, partial);
+        }
+
+        public long readOps()               { return read.ops.sum(); }
+        public long readBytes()             { return read.bytes.sum(); }
+        public long readNanos()             { return read.nanos.sum(); }
+        public long readLockWaitNanos()     { return read.lockWaitNanos.sum(); }
+        public long writeOps()              { return write.ops.sum(); }
+        public long writeBytes()            { return write.bytes.sum(); }
+        public long partialWrites()         { return write.partial.sum(); }
+        public long writeNanos()            { return write.nanos.sum(); }
+        public long writeLockWaitNanos()    { return write.lockWaitNanos.sum(); }
+    }
+
+    private ChannelIOStatistics() { }
+
+    /*
+     * Returns a new statistics object for a channel of the given kind,
+     * or null if collection is disabled.
+     */
+    static Stats newStats(int kind) {
+        return ENABLED ? new Stats(kind) : null;
+    }
+
+    /**
+     * Returns the statistics of the given channel, or null if collection
+     * is disabled or the channel is not a socket, datagram or file channel
+     * of this implementation.
+     */
+    public static Stats of(Channel ch) {
+        if (ch instanceof SocketChannelImpl)
+            return ((SocketChannelImpl)ch).ioStats;
+        if (ch instanceof DatagramChannelImpl)
+            return ((DatagramChannelImpl)ch).ioStats;
+        if (ch instanceof FileChannelImpl)
+            return ((FileChannelImpl)ch).ioStats;
+        return null;
+    }
+
+    private static Map<String, Long> snapshot(int kind) {
+        Counters r = totals[kind];
+        Counters w = totals[kind + 1];
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("readOps", r.ops.sum());
+        map.put("readBytes", r.bytes.sum());
+        map.put("readNanos", r.nanos.sum());
+        map.put("readLockWaitNanos", r.lockWaitNanos.sum());
+        map.put("writeOps", w.ops.sum());
+        map.put("writeBytes", w.bytes.sum());
+        map.put("partialWrites", w.partial.sum());
+        map.put("writeNanos", w.nanos.sum());
+        map.put("writeLockWaitNanos", w.lockWaitNanos.sum());
+        return map;
+    }
+
+    private static class MXBeanHolder {
+        static final ChannelIOMXBean mxbean = new ChannelIOMXBean() {
+            private final ObjectName objname = Util.newObjectName(MXBEAN_NAME);
+            @Override
+            public ObjectName getObjectName() {
+                return objname;
+            }
+            @Override
+            public boolean isEnabled() {
+                return ENABLED;
+            }
+            @Override
+            public Map<String, Long> getSocketStatistics() {
+                return snapshot(SOCKET);
+            }
+            @Override
+            public Map<String, Long> getDatagramStatistics() {
+                return snapshot(DATAGRAM);
+            }
+            @Override
+            public Map<String, Long> getFileStatistics() {
+                return snapshot(FILE);
+            }
+        };
+    }
+
+    /**
+     * Returns true if statistics collection is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the platform MXBean for channel I/O statistics.
+     */
+    public static ChannelIOMXBean getMXBean() {
+        return MXBeanHolder.mxbean;
+    }
+
+    /**
+     * Returns the channel I/O MXBean if it implements the given
+     * interface, for the lookup of extended platform MXBeans.
+     */
+    public static <T> T getMXBean(Class<T> mxbeanInterface) {
+        if (mxbeanInterface == ChannelIOMXBean.class)
+            return mxbeanInterface.cast(getMXBean());
+        return null;
+    }
+
+    /*
+     * Returns the bytes remaining in the given buffers, or 0 if the
+     * arguments are invalid and the operation is about to fail anyway.
+     */
+    static long remaining(java.nio.ByteBuffer[] bufs, int offset, int length) {
+        if (bufs == null || offset < 0 || length < 0
+            || offset > bufs.length - length)
+            return 0;
+        long n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (bufs[i] != null)
+                n += bufs[i].remaining();
+        }
+        return n;
+    }
+}
@@ -322,7 +322,7 @@ class DatagramChannelImpl
 
     private SocketAddress sender;       // Set by receive0 (## ugh)
 
-    public SocketAddress receive(ByteBuffer dst) throws IOException {
+    private SocketAddress doReceive(ByteBuffer dst) throws IOException {
         if (dst.isReadOnly())
             throw new IllegalArgumentException("Read-only buffer");
         if (dst == null)
@@ -418,7 +418,7 @@ class DatagramChannelImpl
         return n;
     }
 
-    public int send(ByteBuffer src, SocketAddress target)
+    private int doSend(ByteBuffer src, SocketAddress target)
         throws IOException
     {
         if (src == null)
@@ -448,7 +448,7 @@ class DatagramChannelImpl
                         throw new IllegalArgumentException(
                             "Connected address not equal to target address");
                     }
-                    return write(src);
+                    return doWrite(src);
                 }
             }
 
@@ -530,7 +530,7 @@ class DatagramChannelImpl
         return written;
     }
 
-    public int read(ByteBuffer buf) throws IOException {
+    private int doRead(ByteBuffer buf) throws IOException {
         if (buf == null)
             throw new NullPointerException();
         synchronized (readLock) {
@@ -557,7 +557,7 @@ class DatagramChannelImpl
         }
     }
 
-    public long read(ByteBuffer[] dsts, int offset, int length)
+    private long doRead(ByteBuffer[] dsts, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > dsts.length - length))
@@ -586,7 +586,7 @@ class DatagramChannelImpl
         }
     }
 
-    public int write(ByteBuffer buf) throws IOException {
+    private int doWrite(ByteBuffer buf) throws IOException {
         if (buf == null)
             throw new NullPointerException();
         synchronized (writeLock) {
@@ -613,7 +613,7 @@ class DatagramChannelImpl
         }
     }
 
-    public long write(ByteBuffer[] srcs, int offset, int length)
+    private long doWrite(ByteBuffer[] srcs, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > srcs.length - length))
@@ -1150,4 +1150,299 @@ class DatagramChannelImpl
         initIDs();
     }
 
+    // -- Batch send and receive --
+
+    /*
+     * The native layer moves one datagram per call, so these loop over
+     * receive0 and send0. What they save over repeated receive and send
+     * calls is the per-datagram locking and bookkeeping: the read or write
+     * lock, begin/end and the connection state are taken once for the
+     * whole batch, and heap buffers share one temporary direct buffer.
+     */
+
+    @Override
+    public int receive(ByteBuffer[] dsts, SocketAddress[] sources,
+                       int offset, int length)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > dsts.length - length)
+            || (offset > sources.length - length))
+            throw new IndexOutOfBoundsException();
+        for (int i = offset; i < offset + length; i++) {
+            if (dsts[i].isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        if (length == 0)
+            return 0;
+        boolean blocking = isBlocking();
+        ChannelIOStatistics.Stats s = ioStats;
+        long start = (s != null) ? System.nanoTime() : 0;
+        synchronized (readLock) {
+            long locked = (s != null) ? System.nanoTime() : 0;
+            ensureOpen();
+            boolean connected = isConnected();
+            // datagrams must pass checkAccept one at a time
+            if (!connected && System.getSecurityManager() != null)
+                return super.receive(dsts, sources, offset, length);
+            // Socket was not bound before attempting receive
+            if (localAddress() == null)
+                bind(null);
+            int n = 0;
+            int count = 0;
+            long bytes = 0;
+            ByteBuffer bb = null;
+            try {
+                begin();
+                if (!isOpen())
+                    return 0;
+                readerThread = NativeThread.current();
+                try {
+                    while (count < length) {
+                        // only the first datagram may be waited for
+                        if (count > 0 && blocking
+                            && Net.poll(fd, Net.POLLIN, 0) == 0)
+                            break;
+                        ByteBuffer dst = dsts[offset + count];
+                        int pos = dst.position();
+                        int lim = dst.limit();
+                        int rem = (pos <= lim ? lim - pos : 0);
+                        if (dst instanceof DirectBuffer && rem > 0) {
+                            do {
+                                long address = ((DirectBuffer)dst).address();
+                                n = receive0(fd, address + pos, rem, connected);
+                            } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                            if (n < 0)
+                                break;
+                            dst.position(pos + n);
+                        } else {
+                            int size = Math.max(rem, 1);
+                            if (bb == null || bb.capacity() < size) {
+                                if (bb != null)
+                                    Util.releaseTemporaryDirectBuffer(bb);
+                                bb = null;
+                                bb = Util.getTemporaryDirectBuffer(size);
+                            }
+                            do {
+                                n = receive0(fd, ((DirectBuffer)bb).address(),
+                                             size, connected);
+                            } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                            if (n < 0)
+                                break;
+                            if (n > 0 && rem > 0) {
+                                bb.clear().limit(n);
+                                dst.put(bb);
+                            }
+                        }
+                        // receive0 reuses the sender object while the source
+                        // address and port are unchanged
+                        sources[offset + count] = sender;
+                        bytes += dst.position() - pos;
+                        count++;
+                    }
+                } catch (IOException x) {
+                    // keep the datagrams already stored
+                    if (count == 0)
+                        throw x;
+                }
+                return count;
+            } finally {
+                if (bb != null)
+                    Util.releaseTemporaryDirectBuffer(bb);
+                readerThread = 0;
+                end((count > 0) || (n == IOStatus.UNAVAILABLE));
+                assert IOStatus.check(n);
+                if (s != null)
+                    s.readBatch(locked - start, System.nanoTime() - locked,
+                                count, bytes);
+            }
+        }
+    }
+
+    @Override
+    public int send(ByteBuffer[] srcs, SocketAddress[] targets,
+                    int offset, int length)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > srcs.length - length)
+            || (offset > targets.length - length))
+            throw new IndexOutOfBoundsException();
+        if (length == 0)
+            return 0;
+        ChannelIOStatistics.Stats s = ioStats;
+        long start = (s != null) ? System.nanoTime() : 0;
+        synchronized (writeLock) {
+            long locked = (s != null) ? System.nanoTime() : 0;
+            ensureOpen();
+            // connected sends check their target against the peer, and
+            // unconnected ones under a security manager are checked one
+            // at a time
+            if (isConnected() || System.getSecurityManager() != null)
+                return super.send(srcs, targets, offset, length);
+
+            int n = 0;
+            int count = 0;
+            long bytes = 0;
+            try {
+                begin();
+                if (!isOpen())
+                    return 0;
+                writerThread = NativeThread.current();
+                try {
+                    while (count < length) {
+                        ByteBuffer src = srcs[offset + count];
+                        if (src == null)
+                            throw new NullPointerException();
+                        InetSocketAddress isa =
+                            Net.checkAddress(targets[offset + count]);
+                        if (isa.getAddress() == null)
+                            throw new IOException("Target address not resolved");
+                        int rem = src.remaining();
+                        do {
+                            n = send(fd, src, isa);
+                        } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                        if (n < 0 || (n == 0 && rem > 0))
+                            break;
+                        bytes += n;
+                        count++;
+                    }
+                } catch (IOException x) {
+                    if (count == 0)
+                        throw x;
+                }
+
+                synchronized (stateLock) {
+                    if (isOpen() && (localAddress == null)) {
+                        localAddress = Net.localAddress(fd);
+                    }
+                }
+                return count;
+            } finally {
+                writerThread = 0;
+                end((count > 0) || (n == IOStatus.UNAVAILABLE));
+                assert IOStatus.check(n);
+                if (s != null)
+                    s.writeBatch(locked - start, System.nanoTime() - locked,
+                                 count, bytes, length);
+            }
+        }
+    }
+
+    // -- I/O statistics --
+
+    // null unless statistics collection is enabled
+    final ChannelIOStatistics.Stats ioStats =
+        ChannelIOStatistics.newStats(ChannelIOStatistics.DATAGRAM);
+
+    public SocketAddress receive(ByteBuffer dst) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doReceive(dst);
+        int pos = dst.position();
+        long start = System.nanoTime();
+        synchronized (readLock) {
+            long locked = System.nanoTime();
+            try {
+                return doReceive(dst);
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked,
+                       dst.position() - pos);
+            }
+        }
+    }
+
+    public int send(ByteBuffer src, SocketAddress target) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doSend(src, target);
+        long requested = (src == null) ? 0 : src.remaining();
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            long locked = System.nanoTime();
+            int result = -1;
+            try {
+                result = doSend(src, target);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
+    public int read(ByteBuffer buf) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(buf);
+        long start = System.nanoTime();
+        synchronized (readLock) {
+            long locked = System.nanoTime();
+            int result = 0;
+            try {
+                result = doRead(buf);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public long read(ByteBuffer[] dsts, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(dsts, offset, length);
+        long start = System.nanoTime();
+        synchronized (readLock) {
+            long locked = System.nanoTime();
+            long result = 0;
+            try {
+                result = doRead(dsts, offset, length);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public int write(ByteBuffer buf) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(buf);
+        long requested = (buf == null) ? 0 : buf.remaining();
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            long locked = System.nanoTime();
+            int result = -1;
+            try {
+                result = doWrite(buf);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
+    public long write(ByteBuffer[] srcs, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(srcs, offset, length);
+        long requested = ChannelIOStatistics.remaining(srcs, offset, length);
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            long locked = System.nanoTime();
+            long result = -1;
+            try {
+                result = doWrite(srcs, offset, length);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
 }
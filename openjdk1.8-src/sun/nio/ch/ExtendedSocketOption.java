@@ -32,7 +32,7 @@ import java.net.SocketOption;
  * but not defined in StandardSocketOptions.
  */
 
-class ExtendedSocketOption {
+public class ExtendedSocketOption {
     private ExtendedSocketOption() { }
 
     static final SocketOption<Boolean> SO_OOBINLINE =
@@ -41,4 +41,17 @@ class ExtendedSocketOption {
             public Class<Boolean> type() { return Boolean.class; }
             public String toString() { return name(); }
         };
+
+    /**
+     * Allows several listening sockets to be bound to the same address and
+     * port, the kernel spreading incoming connections among them. Each
+     * socket must enable the option before it is bound. Supported by
+     * {@code ServerSocketChannel} on Linux, Mac OS X and the BSDs.
+     */
+    public static final SocketOption<Boolean> SO_REUSEPORT =
+        new SocketOption<Boolean>() {
+            public String name() { return "SO_REUSEPORT"; }
+            public Class<Boolean> type() { return Boolean.class; }
+            public String toString() { return name(); }
+        };
 }
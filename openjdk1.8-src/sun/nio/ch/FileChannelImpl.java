@@ -143,7 +143,7 @@ public class FileChannelImpl
 
     }
 
-    public int read(ByteBuffer dst) throws IOException {
+    private int doRead(ByteBuffer dst) throws IOException {
         ensureOpen();
         if (!readable)
             throw new NonReadableChannelException();
@@ -167,7 +167,7 @@ public class FileChannelImpl
         }
     }
 
-    public long read(ByteBuffer[] dsts, int offset, int length)
+    private long doRead(ByteBuffer[] dsts, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > dsts.length - length))
@@ -195,7 +195,7 @@ public class FileChannelImpl
         }
     }
 
-    public int write(ByteBuffer src) throws IOException {
+    private int doWrite(ByteBuffer src) throws IOException {
         ensureOpen();
         if (!writable)
             throw new NonWritableChannelException();
@@ -219,7 +219,7 @@ public class FileChannelImpl
         }
     }
 
-    public long write(ByteBuffer[] srcs, int offset, int length)
+    private long doWrite(ByteBuffer[] srcs, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > srcs.length - length))
@@ -495,7 +495,7 @@ public class FileChannelImpl
     }
 
     // Maximum size to map when using a mapped buffer
-    private static final long MAPPED_TRANSFER_SIZE = 8L*1024L*1024L;
+    private static final long MAPPED_TRANSFER_SIZE = TransferTuning.mappedTransferSize;
 
     private long transferToTrustedChannel(long position, long count,
                                           WritableByteChannel target)
@@ -558,7 +558,7 @@ public class FileChannelImpl
             Util.erase(bb);
             while (tw < icount) {
                 bb.limit(Math.min((int)(icount - tw), TRANSFER_SIZE));
-                int nr = read(bb, pos);
+                int nr = doRead(bb, pos);
                 if (nr <= 0)
                     break;
                 bb.flip();
@@ -581,8 +581,8 @@ public class FileChannelImpl
         }
     }
 
-    public long transferTo(long position, long count,
-                           WritableByteChannel target)
+    private long doTransferTo(long position, long count,
+                              WritableByteChannel target)
         throws IOException
     {
         ensureOpen();
@@ -606,14 +606,14 @@ public class FileChannelImpl
 
         // Attempt a direct transfer, if the kernel supports it
         if ((n = transferToDirectly(position, icount, target)) >= 0)
-            return n;
+            return transferred(TO_DIRECT, n);
 
         // Attempt a mapped transfer, but only to trusted channel types
         if ((n = transferToTrustedChannel(position, icount, target)) >= 0)
-            return n;
+            return transferred(TO_MAPPED, n);
 
         // Slow path for untrusted targets
-        return transferToArbitraryChannel(position, icount, target);
+        return transferred(TO_BUFFERED, transferToArbitraryChannel(position, icount, target));
     }
 
     private long transferFromFileChannel(FileChannelImpl src,
@@ -633,7 +633,7 @@ public class FileChannelImpl
                 // ## Bug: Closing this channel will not terminate the write
                 MappedByteBuffer bb = src.map(MapMode.READ_ONLY, p, size);
                 try {
-                    long n = write(bb, position);
+                    long n = doWrite(bb, position);
                     assert n > 0;
                     p += n;
                     position += n;
@@ -649,11 +649,11 @@ public class FileChannelImpl
             }
             long nwritten = max - remaining;
             src.position(pos + nwritten);
-            return nwritten;
+            return transferred(FROM_MAPPED_FILE, nwritten);
         }
     }
 
-    private static final int TRANSFER_SIZE = 8192;
+    private static final int TRANSFER_SIZE = TransferTuning.transferSize;
 
     private long transferFromArbitraryChannel(ReadableByteChannel src,
                                               long position, long count)
@@ -674,7 +674,7 @@ public class FileChannelImpl
                 if (nr <= 0)
                     break;
                 bb.flip();
-                int nw = write(bb, pos);
+                int nw = doWrite(bb, pos);
                 tw += nw;
                 if (nw != nr)
                     break;
@@ -691,8 +691,8 @@ public class FileChannelImpl
         }
     }
 
-    public long transferFrom(ReadableByteChannel src,
-                             long position, long count)
+    private long doTransferFrom(ReadableByteChannel src,
+                                long position, long count)
         throws IOException
     {
         ensureOpen();
@@ -708,10 +708,10 @@ public class FileChannelImpl
            return transferFromFileChannel((FileChannelImpl)src,
                                           position, count);
 
-        return transferFromArbitraryChannel(src, position, count);
+        return transferFromChannel(src, position, count);
     }
 
-    public int read(ByteBuffer dst, long position) throws IOException {
+    private int doRead(ByteBuffer dst, long position) throws IOException {
         if (dst == null)
             throw new NullPointerException();
         if (position < 0)
@@ -748,7 +748,7 @@ public class FileChannelImpl
         }
     }
 
-    public int write(ByteBuffer src, long position) throws IOException {
+    private int doWrite(ByteBuffer src, long position) throws IOException {
         if (src == null)
             throw new NullPointerException();
         if (position < 0)
@@ -1225,4 +1225,455 @@ public class FileChannelImpl
         allocationGranularity = initIDs();
     }
 
+
+    // -- Batched positional I/O --
+
+    // The channel state, interruption and position lock are checked once for
+    // the whole batch rather than once per request.
+
+    private long doRead(long[] positions, ByteBuffer[] dsts) throws IOException {
+        Util.checkBatch(positions, dsts);
+        if (!readable)
+            throw new NonReadableChannelException();
+        for (int i = 0; i < dsts.length; i++) {
+            if (dsts[i].isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        ensureOpen();
+        if (nd.needsPositionLock()) {
+            synchronized (positionLock) {
+                return readInternal(positions, dsts);
+            }
+        } else {
+            return readInternal(positions, dsts);
+        }
+    }
+
+    private long readInternal(long[] positions, ByteBuffer[] dsts)
+        throws IOException
+    {
+        assert !nd.needsPositionLock() || Thread.holdsLock(positionLock);
+        long total = 0;
+        boolean completed = false;
+        int n = 0;
+        int ti = -1;
+        try {
+            begin();
+            ti = threads.add();
+            if (!isOpen())
+                return 0;
+            for (int i = 0; i < dsts.length; i++) {
+                ByteBuffer dst = dsts[i];
+                long position = positions[i];
+                while (dst.hasRemaining()) {
+                    do {
+                        n = IOUtil.read(fd, dst, position, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                    if (n <= 0)
+                        break;
+                    position += n;
+                    total += n;
+                }
+                if (n == IOStatus.INTERRUPTED)
+                    return total;
+            }
+            completed = true;
+            return total;
+        } finally {
+            threads.remove(ti);
+            end(completed || total > 0);
+            assert IOStatus.check(n);
+        }
+    }
+
+    private long doWrite(long[] positions, ByteBuffer[] srcs) throws IOException {
+        Util.checkBatch(positions, srcs);
+        if (!writable)
+            throw new NonWritableChannelException();
+        ensureOpen();
+        if (nd.needsPositionLock()) {
+            synchronized (positionLock) {
+                return writeInternal(positions, srcs);
+            }
+        } else {
+            return writeInternal(positions, srcs);
+        }
+    }
+
+    private long writeInternal(long[] positions, ByteBuffer[] srcs)
+        throws IOException
+    {
+        assert !nd.needsPositionLock() || Thread.holdsLock(positionLock);
+        long total = 0;
+        boolean completed = false;
+        int n = 0;
+        int ti = -1;
+        try {
+            begin();
+            ti = threads.add();
+            if (!isOpen())
+                return 0;
+            for (int i = 0; i < srcs.length; i++) {
+                ByteBuffer src = srcs[i];
+                long position = positions[i];
+                while (src.hasRemaining()) {
+                    do {
+                        n = IOUtil.write(fd, src, position, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                    if (n <= 0)
+                        break;
+                    position += n;
+                    total += n;
+                }
+                if (n == IOStatus.INTERRUPTED)
+                    return total;
+            }
+            completed = true;
+            return total;
+        } finally {
+            threads.remove(ti);
+            end(completed || total > 0);
+            assert IOStatus.check(n);
+        }
+    }
+
+    // -- Transfer tuning and statistics --
+
+    // Chunk sizes used by transferTo and transferFrom, configurable by system
+    // properties.  Held in a nested class so that they are initialized before
+    // the static fields that copy them.
+    private static class TransferTuning {
+        // Maximum size to map when using a mapped buffer
+        static final long mappedTransferSize =
+            get("sun.nio.ch.mappedTransferSize", 8L*1024L*1024L);
+
+        // Size of the temporary buffer used for transfers to or from
+        // arbitrary channels
+        static final int transferSize =
+            (int)get("sun.nio.ch.transferSize", 8192L);
+
+        // Minimum number of bytes for which transferFrom reads a socket or
+        // pipe directly into a mapped region of the file, 0 (the default)
+        // if it never does.  Writes through the mapping bypass O_SYNC and
+        // O_DSYNC, and fault each page in before it is overwritten.
+        static final long mappedTransferThreshold =
+            get("sun.nio.ch.mappedTransferThreshold", 0L);
+
+        private static long get(String name, long defaultValue) {
+            long value = AccessController.doPrivileged(
+                new sun.security.action.GetLongAction(name, defaultValue));
+            if (value <= 0L)
+                return defaultValue;
+            return Math.min(value, (long)Integer.MAX_VALUE);
+        }
+    }
+
+    // The paths that a transfer can take, indexes into the counters
+    private static final int TO_DIRECT = 0;
+    private static final int TO_MAPPED = 1;
+    private static final int TO_BUFFERED = 2;
+    private static final int FROM_MAPPED_FILE = 3;
+    private static final int FROM_MAPPED_CHANNEL = 4;
+    private static final int FROM_BUFFERED = 5;
+
+    // jvmstat counters for the number of transfers, and the number of bytes
+    // transferred, by each path.  Updated only when I/O statistics are
+    // enabled, as each update takes the counter's lock.
+    private static class TransferCounters {
+        static final sun.misc.PerfCounter[] transfers = {
+            sun.misc.PerfCounter.getTransferToDirect(),
+            sun.misc.PerfCounter.getTransferToMapped(),
+            sun.misc.PerfCounter.getTransferToBuffered(),
+            sun.misc.PerfCounter.getTransferFromMappedFile(),
+            sun.misc.PerfCounter.getTransferFromMappedChannel(),
+            sun.misc.PerfCounter.getTransferFromBuffered()
+        };
+        static final sun.misc.PerfCounter[] bytes = {
+            sun.misc.PerfCounter.getTransferToDirectBytes(),
+            sun.misc.PerfCounter.getTransferToMappedBytes(),
+            sun.misc.PerfCounter.getTransferToBufferedBytes(),
+            sun.misc.PerfCounter.getTransferFromMappedFileBytes(),
+            sun.misc.PerfCounter.getTransferFromMappedChannelBytes(),
+            sun.misc.PerfCounter.getTransferFromBufferedBytes()
+        };
+    }
+
+    // Records that a transfer of n bytes took the given path
+    private static long transferred(int path, long n) {
+        if (!ChannelIOStatistics.ENABLED)
+            return n;
+        TransferCounters.transfers[path].increment();
+        if (n > 0)
+            TransferCounters.bytes[path].add(n);
+        return n;
+    }
+
+    private long transferFromChannel(ReadableByteChannel src,
+                                     long position, long count)
+        throws IOException
+    {
+        long mappable = Math.min(count, size() - position);
+        long n;
+        if ((n = transferFromSelectableChannel(src, position, count)) < 0)
+            return transferred(FROM_BUFFERED,
+                               transferFromArbitraryChannel(src, position, count));
+        transferred(FROM_MAPPED_CHANNEL, n);
+        if (n == mappable && n < count) {
+            // The source was not exhausted by the mapped part, which stops
+            // at the end of the file; copy the rest through a buffer
+            try {
+                n += transferred(FROM_BUFFERED,
+                                 transferFromArbitraryChannel(src, position + n,
+                                                              count - n));
+            } catch (IOException x) {
+                // bytes have been transferred already
+            }
+        }
+        return n;
+    }
+
+    // Reads from a socket or pipe directly into a mapped region of this file,
+    // avoiding the copy through a temporary buffer.  Only the part of the
+    // region that lies within the current file size is transferred, so the
+    // file is never extended by mapping.
+    private long transferFromSelectableChannel(ReadableByteChannel src,
+                                               long position, long count)
+        throws IOException
+    {
+        if (!(src instanceof SelChImpl) || !readable || append)
+            return IOStatus.UNSUPPORTED;
+        if (TransferTuning.mappedTransferThreshold == 0L
+            || count < TransferTuning.mappedTransferThreshold)
+            return IOStatus.UNSUPPORTED;
+        // a non-blocking channel may not have enough bytes to be worth mapping
+        if (!((SelectableChannel)src).isBlocking())
+            return IOStatus.UNSUPPORTED_CASE;
+        long max = Math.min(count, size() - position);
+        if (max < TransferTuning.mappedTransferThreshold)
+            return IOStatus.UNSUPPORTED_CASE;
+
+        long remaining = max;
+        long p = position;
+        boolean eof = false;
+        while (remaining > 0L && !eof) {
+            long size = Math.min(remaining, MAPPED_TRANSFER_SIZE);
+            MappedByteBuffer bb;
+            try {
+                bb = map(MapMode.READ_WRITE, p, size);
+            } catch (IOException ioe) {
+                // use the buffered path if nothing could be mapped
+                if (remaining == max)
+                    return IOStatus.UNSUPPORTED_CASE;
+                break;
+            }
+            try {
+                while (bb.hasRemaining()) {
+                    // ## Bug: Will block reading src if this channel
+                    // ##      is asynchronously closed
+                    int nr = src.read(bb);
+                    if (nr <= 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+            } catch (IOException ioe) {
+                // Only throw exception if no bytes have been read
+                if (remaining == max && bb.position() == 0)
+                    throw ioe;
+                eof = true;
+            } finally {
+                p += bb.position();
+                remaining -= bb.position();
+                unmap(bb);
+            }
+        }
+        return max - remaining;
+    }
+
+    // -- I/O statistics --
+
+    // null unless statistics collection is enabled
+    final ChannelIOStatistics.Stats ioStats =
+        ChannelIOStatistics.newStats(ChannelIOStatistics.FILE);
+
+    public int read(ByteBuffer dst) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(dst);
+        long start = System.nanoTime();
+        synchronized (positionLock) {
+            long locked = System.nanoTime();
+            int result = 0;
+            try {
+                result = doRead(dst);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public long read(ByteBuffer[] dsts, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(dsts, offset, length);
+        long start = System.nanoTime();
+        synchronized (positionLock) {
+            long locked = System.nanoTime();
+            long result = 0;
+            try {
+                result = doRead(dsts, offset, length);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public int write(ByteBuffer src) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(src);
+        long requested = (src == null) ? 0 : src.remaining();
+        long start = System.nanoTime();
+        synchronized (positionLock) {
+            long locked = System.nanoTime();
+            int result = -1;
+            try {
+                result = doWrite(src);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
+    public long write(ByteBuffer[] srcs, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(srcs, offset, length);
+        long requested = ChannelIOStatistics.remaining(srcs, offset, length);
+        long start = System.nanoTime();
+        synchronized (positionLock) {
+            long locked = System.nanoTime();
+            long result = -1;
+            try {
+                result = doWrite(srcs, offset, length);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
+    public int read(ByteBuffer dst, long position) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(dst, position);
+        long start = System.nanoTime();
+        long locked = start;
+        int result = 0;
+        try {
+            result = doRead(dst, position);
+            return result;
+        } finally {
+            s.read(locked - start, System.nanoTime() - locked, result);
+        }
+    }
+
+    public int write(ByteBuffer src, long position) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(src, position);
+        long requested = (src == null) ? 0 : src.remaining();
+        long start = System.nanoTime();
+        long locked = start;
+        int result = -1;
+        try {
+            result = doWrite(src, position);
+            return result;
+        } finally {
+            s.write(locked - start, System.nanoTime() - locked, result,
+                    requested);
+        }
+    }
+
+    public long read(long[] positions, ByteBuffer[] dsts) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(positions, dsts);
+        long start = System.nanoTime();
+        long locked = start;
+        long result = 0;
+        try {
+            result = doRead(positions, dsts);
+            return result;
+        } finally {
+            s.read(locked - start, System.nanoTime() - locked, result);
+        }
+    }
+
+    public long write(long[] positions, ByteBuffer[] srcs) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(positions, srcs);
+        long requested = (srcs == null) ? 0 :
+            ChannelIOStatistics.remaining(srcs, 0, srcs.length);
+        long start = System.nanoTime();
+        long locked = start;
+        long result = -1;
+        try {
+            result = doWrite(positions, srcs);
+            return result;
+        } finally {
+            s.write(locked - start, System.nanoTime() - locked, result,
+                    requested);
+        }
+    }
+
+    // A transfer counts as a read of this channel for transferTo, and as a
+    // write to it for transferFrom
+    public long transferTo(long position, long count,
+                           WritableByteChannel target)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doTransferTo(position, count, target);
+        long start = System.nanoTime();
+        long locked = start;
+        long result = 0;
+        try {
+            result = doTransferTo(position, count, target);
+            return result;
+        } finally {
+            s.read(locked - start, System.nanoTime() - locked, result);
+        }
+    }
+
+    public long transferFrom(ReadableByteChannel src,
+                             long position, long count)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doTransferFrom(src, position, count);
+        long start = System.nanoTime();
+        long locked = start;
+        long result = -1;
+        try {
+            result = doTransferFrom(src, position, count);
+            return result;
+        } finally {
+            s.write(locked - start, System.nanoTime() - locked, result,
+                    count);
+        }
+    }
+
 }
@@ -317,4 +317,37 @@ class Invoker {
                              future.exception());
         }
     }
+
+    // -- Internal threads --
+
+    // When true, the internal threads that handle I/O events for a group
+    // with an unbounded thread pool are bound to the group, so that they may
+    // invoke completion handlers directly (subject to maxHandlerInvokeCount)
+    // instead of handing each completion to the thread pool.
+    static final boolean invokeOnInternalThreads = AccessController.doPrivileged(
+        new sun.security.action.GetBooleanAction("sun.nio.ch.invokeOnInternalThreads"));
+
+    // GroupAndInvokeCount of an internal thread bound to a group
+    static class InternalGroupAndInvokeCount extends GroupAndInvokeCount {
+        InternalGroupAndInvokeCount(AsynchronousChannelGroupImpl group) {
+            super(group);
+        }
+    }
+
+    /**
+     * Binds this internal thread to the given group
+     */
+    static void bindInternalThreadToGroup(AsynchronousChannelGroupImpl group) {
+        myGroupAndInvokeCount.set(new InternalGroupAndInvokeCount(group));
+    }
+
+    /**
+     * Returns true if the current thread is in a channel group's thread pool,
+     * as opposed to an internal thread that is bound to a group.
+     */
+    static boolean isBoundToPooledThread() {
+        GroupAndInvokeCount thisGroupAndInvokeCount = myGroupAndInvokeCount.get();
+        return (thisGroupAndInvokeCount != null) &&
+               !(thisGroupAndInvokeCount instanceof InternalGroupAndInvokeCount);
+    }
 }
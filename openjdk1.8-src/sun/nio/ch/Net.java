@@ -317,7 +317,7 @@ public class Net {
         }
 
         // map option name to platform level/name
-        OptionKey key = SocketOptionRegistry.findOption(name, family);
+        OptionKey key = findOptionKey(name, family);
         if (key == null)
             throw new AssertionError("Option not found");
 
@@ -355,7 +355,7 @@ public class Net {
             throw new AssertionError("Should not reach here");
 
         // map option name to platform level/name
-        OptionKey key = SocketOptionRegistry.findOption(name, family);
+        OptionKey key = findOptionKey(name, family);
         if (key == null)
             throw new AssertionError("Option not found");
 
@@ -656,4 +656,67 @@ public class Net {
 
         fastLoopback = isFastTcpLoopbackRequested();
     }
+
+    // -- SO_REUSEPORT --
+
+    // The generated option registry does not know SO_REUSEPORT, so its
+    // platform level and name are given here, for the platforms and Linux
+    // architectures whose values are known; null elsewhere
+    private static OptionKey reusePortKey() {
+        String os = AccessController.doPrivileged(
+            new sun.security.action.GetPropertyAction("os.name"));
+        String arch = AccessController.doPrivileged(
+            new sun.security.action.GetPropertyAction("os.arch"));
+        if (os.equals("Linux")) {
+            if (arch.startsWith("mips") || arch.startsWith("sparc")
+                || arch.equals("alpha"))
+                return new OptionKey(0xffff, 0x0200);
+            if (arch.startsWith("parisc") || arch.startsWith("hppa"))
+                return new OptionKey(0xffff, 0x0404);
+            if (arch.equals("amd64") || arch.equals("x86_64")
+                || arch.equals("x86") || arch.matches("i[3-6]86")
+                || arch.startsWith("arm") || arch.equals("aarch64")
+                || arch.startsWith("ppc") || arch.startsWith("s390"))
+                return new OptionKey(1, 15);        // SOL_SOCKET, SO_REUSEPORT
+            return null;
+        }
+        if (os.equals("Mac OS X") || os.endsWith("BSD"))
+            return new OptionKey(0xffff, 0x0200);
+        return null;
+    }
+
+    // Holds the SO_REUSEPORT key once the kernel is known to accept it.
+    // Older kernels (Linux before 3.9) reject the option, so it is set on a
+    // throwaway socket when first needed.
+    private static class ReusePort {
+        static final OptionKey KEY = probe(reusePortKey());
+
+        private static OptionKey probe(OptionKey key) {
+            if (key == null)
+                return null;
+            try (ServerSocketChannel ssc = ServerSocketChannel.open()) {
+                FileDescriptor fd = ((SelChImpl)ssc).getFD();
+                setIntOption0(fd, false, key.level(), key.name(), 1, false);
+                return key;
+            } catch (IOException | ClassCastException x) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Tells whether several sockets may be bound to the same address and
+     * port with SO_REUSEPORT, the kernel spreading connections among them.
+     */
+    static boolean isReusePortAvailable() {
+        return ReusePort.KEY != null;
+    }
+
+    private static OptionKey findOptionKey(SocketOption<?> name,
+                                           ProtocolFamily family)
+    {
+        if (name == ExtendedSocketOption.SO_REUSEPORT)
+            return ReusePort.KEY;
+        return SocketOptionRegistry.findOption(name, family);
+    }
 }
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.nio.ch;
+
+import java.nio.channels.*;
+import java.util.ArrayDeque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import sun.security.action.GetIntegerAction;
+
+/**
+ * Implementation of AsynchronousFileChannel that separates the submission of
+ * read and write operations from their completion.
+ *
+ * <p> Operations are placed on a submission queue that is shared by all
+ * channels of this class and served by a set of I/O threads, started on
+ * demand up to the configured queue depth, that perform the positional read
+ * or write.  A thread that initiates an operation therefore never waits for
+ * the I/O and may keep as many operations in flight as the queue depth.
+ * Completed operations are placed on the channel's completion queue and their
+ * handlers are invoked in batches by a single task on the channel's executor,
+ * rather than by one task per operation.  Operations initiated with a
+ * {@code Future} are completed directly by the I/O thread.
+ *
+ * <p> This implementation is used in place of the "portable" implementation
+ * when the {@code sun.nio.ch.fileIoQueueDepth} system property is set to a
+ * positive value.
+ */
+
+class QueuedAsynchronousFileChannelImpl
+    extends SimpleAsynchronousFileChannelImpl
+{
+    // maximum number of I/O threads serving the submission queue
+    private static final int queueDepth = AccessController.doPrivileged(
+        new GetIntegerAction("sun.nio.ch.fileIoQueueDepth", 0));
+
+    // maximum number of handlers invoked by a completion task before it
+    // re-submits itself to the executor
+    private static final int maxCompletionsPerTask = 64;
+
+    // number of seconds that an idle I/O thread waits before terminating
+    private static final long keepAliveTime = 60L;
+
+    static boolean isEnabled() {
+        return queueDepth > 0;
+    }
+
+    // lazy initialization of the submission queue
+    private static class SubmissionQueueHolder {
+        static final SubmissionQueue queue = new SubmissionQueue(queueDepth);
+    }
+
+    // completed operations with a completion handler
+    private final ConcurrentLinkedQueue<Op> completions =
+        new ConcurrentLinkedQueue<Op>();
+
+    // true if a completion task has been submitted to the executor
+    private final AtomicBoolean completing = new AtomicBoolean();
+
+    private final Runnable completionTask = new Runnable() {
+        public void run() {
+            processCompletions();
+        }
+    };
+
+    QueuedAsynchronousFileChannelImpl(FileDescriptor fdObj,
+                                      boolean reading,
+                                      boolean writing,
+                                      ExecutorService executor)
+    {
+        super(fdObj, reading, writing, executor);
+    }
+
+    /**
+     * A read or write operation, queued until an I/O thread performs it.
+     */
+    private static final class Op {
+        final QueuedAsynchronousFileChannelImpl channel;
+        final boolean write;
+        final ByteBuffer buf;
+        final long position;
+        final PendingFuture<Integer,?> future;
+        final CompletionHandler<Integer,Object> handler;
+        final Object attachment;
+        int result;
+        Throwable exc;
+
+        @SuppressWarnings("unchecked")
+        Op(QueuedAsynchronousFileChannelImpl channel,
+           boolean write,
+           ByteBuffer buf,
+           long position,
+           PendingFuture<Integer,?> future,
+           CompletionHandler<Integer,?> handler,
+           Object attachment)
+        {
+            this.channel = channel;
+            this.write = write;
+            this.buf = buf;
+            this.position = position;
+            this.future = future;
+            this.handler = (CompletionHandler<Integer,Object>)handler;
+            this.attachment = attachment;
+        }
+    }
+
+    /**
+     * The submission queue and the I/O threads that serve it.
+     */
+    private static final class SubmissionQueue implements Runnable {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final ArrayDeque<Op> ops = new ArrayDeque<Op>();
+        private final ThreadFactory factory = ThreadPool.defaultThreadFactory();
+        private final int maxThreads;
+        private int threadCount;        // guarded by lock
+        private int idleCount;          // guarded by lock
+
+        SubmissionQueue(int maxThreads) {
+            this.maxThreads = maxThreads;
+        }
+
+        /**
+         * Queues the given operations, waking idle I/O threads, or starting
+         * new ones up to the queue depth, to perform them.
+         */
+        void submit(Op[] batch) {
+            lock.lock();
+            try {
+                for (Op op: batch)
+                    ops.addLast(op);
+                int n = batch.length;
+                int wake = Math.min(n, idleCount);
+                for (int i = 0; i < wake; i++)
+                    notEmpty.signal();
+                n -= wake;
+                while (n > 0 && threadCount < maxThreads) {
+                    factory.newThread(this).start();
+                    threadCount++;
+                    n--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Takes the next operation, waiting for one to be submitted if
+         * necessary.  Returns null if the thread has been idle for longer
+         * than the keep alive time and should terminate.
+         */
+        private Op take() {
+            lock.lock();
+            try {
+                long nanos = TimeUnit.SECONDS.toNanos(keepAliveTime);
+                Op op;
+                while ((op = ops.pollFirst()) == null) {
+                    if (nanos <= 0L) {
+                        threadCount--;
+                        return null;
+                    }
+                    idleCount++;
+                    try {
+                        nanos = notEmpty.awaitNanos(nanos);
+                    } catch (InterruptedException x) {
+                        // ignore
+                    } finally {
+                        idleCount--;
+                    }
+                }
+                return op;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public void run() {
+            Op op;
+            while ((op = take()) != null) {
+                boolean done = false;
+                try {
+                    op.channel.perform(op);
+                    done = true;
+                } finally {
+                    if (!done) {
+                        lock.lock();
+                        try {
+                            threadCount--;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Invoked by an I/O thread to perform the given operation.
+     */
+    private void perform(Op op) {
+        int n = 0;
+        Throwable exc = null;
+
+        int ti = threads.add();
+        try {
+            begin();
+            do {
+                n = (op.write) ? IOUtil.write(fdObj, op.buf, op.position, nd)
+                               : IOUtil.read(fdObj, op.buf, op.position, nd);
+            } while ((n == IOStatus.INTERRUPTED) && isOpen());
+            if (n < 0 && !isOpen())
+                throw new AsynchronousCloseException();
+        } catch (IOException x) {
+            if (!isOpen())
+                x = new AsynchronousCloseException();
+            exc = x;
+        } finally {
+            end();
+            threads.remove(ti);
+        }
+
+        if (op.handler == null) {
+            op.future.setResult(n, exc);
+        } else {
+            op.result = n;
+            op.exc = exc;
+            completions.offer(op);
+            if (completing.compareAndSet(false, true))
+                submitCompletionTask();
+        }
+    }
+
+    private void submitCompletionTask() {
+        try {
+            executor.execute(completionTask);
+        } catch (RejectedExecutionException x) {
+            // executor shutdown so complete on this thread
+            processCompletions();
+        }
+    }
+
+    /**
+     * Invokes the handlers of completed operations, at most
+     * maxCompletionsPerTask before yielding the executor thread.
+     */
+    private void processCompletions() {
+        try {
+            Op op;
+            for (int i = 0; i < maxCompletionsPerTask; i++) {
+                if ((op = completions.poll()) == null)
+                    break;
+                Invoker.invokeUnchecked(op.handler, op.attachment, op.result, op.exc);
+            }
+        } finally {
+            completing.set(false);
+            if (!completions.isEmpty() && completing.compareAndSet(false, true))
+                submitCompletionTask();
+        }
+    }
+
+    @Override
+    <A> Future<Integer> implRead(ByteBuffer dst,
+                                 long position,
+                                 A attachment,
+                                 CompletionHandler<Integer,? super A> handler)
+    {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!reading)
+            throw new NonReadableChannelException();
+        if (dst.isReadOnly())
+            throw new IllegalArgumentException("Read-only buffer");
+
+        // complete immediately if channel closed or no space remaining
+        if (!isOpen() || (dst.remaining() == 0)) {
+            Throwable exc = (isOpen()) ? null : new ClosedChannelException();
+            if (handler == null)
+                return CompletedFuture.withResult(0, exc);
+            Invoker.invokeIndirectly(handler, attachment, 0, exc, executor);
+            return null;
+        }
+
+        PendingFuture<Integer,A> result = (handler == null) ?
+            new PendingFuture<Integer,A>(this) : null;
+        SubmissionQueueHolder.queue.submit(new Op[] {
+            new Op(this, false, dst, position, result, handler, attachment) });
+        return result;
+    }
+
+    @Override
+    <A> Future<Integer> implWrite(ByteBuffer src,
+                                  long position,
+                                  A attachment,
+                                  CompletionHandler<Integer,? super A> handler)
+    {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!writing)
+            throw new NonWritableChannelException();
+
+        // complete immediately if channel is closed or no bytes remaining
+        if (!isOpen() || (src.remaining() == 0)) {
+            Throwable exc = (isOpen()) ? null : new ClosedChannelException();
+            if (handler == null)
+                return CompletedFuture.withResult(0, exc);
+            Invoker.invokeIndirectly(handler, attachment, 0, exc, executor);
+            return null;
+        }
+
+        PendingFuture<Integer,A> result = (handler == null) ?
+            new PendingFuture<Integer,A>(this) : null;
+        SubmissionQueueHolder.queue.submit(new Op[] {
+            new Op(this, true, src, position, result, handler, attachment) });
+        return result;
+    }
+
+    // -- batched submission --
+
+    @Override
+    public <A> void read(long[] positions,
+                         ByteBuffer[] dsts,
+                         A attachment,
+                         CompletionHandler<Long,? super A> handler)
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        Util.checkBatch(positions, dsts);
+        if (!reading)
+            throw new NonReadableChannelException();
+        for (ByteBuffer dst: dsts) {
+            if (dst.isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        submitBatch(false, positions, dsts, attachment, handler);
+    }
+
+    @Override
+    public <A> void write(long[] positions,
+                          ByteBuffer[] srcs,
+                          A attachment,
+                          CompletionHandler<Long,? super A> handler)
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        Util.checkBatch(positions, srcs);
+        if (!writing)
+            throw new NonWritableChannelException();
+        submitBatch(true, positions, srcs, attachment, handler);
+    }
+
+    private <A> void submitBatch(boolean write,
+                                 long[] positions,
+                                 ByteBuffer[] bufs,
+                                 A attachment,
+                                 CompletionHandler<Long,? super A> handler)
+    {
+        // complete immediately if channel closed or nothing to do
+        if (!isOpen() || (bufs.length == 0)) {
+            Throwable exc = (isOpen()) ? null : new ClosedChannelException();
+            Invoker.invokeIndirectly(handler, attachment, 0L, exc, executor);
+            return;
+        }
+
+        Batch<A> batch = new Batch<A>(bufs.length, attachment, handler);
+        Op[] ops = new Op[bufs.length];
+        for (int i = 0; i < bufs.length; i++)
+            ops[i] = new Op(this, write, bufs[i], positions[i], null, batch, null);
+        SubmissionQueueHolder.queue.submit(ops);
+    }
+
+    /**
+     * Collects the results of the operations of a batch and invokes the
+     * batch's handler when the last one completes.
+     */
+    private static final class Batch<A>
+        implements CompletionHandler<Integer,Object>
+    {
+        private final AtomicInteger remaining;
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicReference<Throwable> exc =
+            new AtomicReference<Throwable>();
+        private final A attachment;
+        private final CompletionHandler<Long,? super A> handler;
+
+        Batch(int count, A attachment, CompletionHandler<Long,? super A> handler) {
+            this.remaining = new AtomicInteger(count);
+            this.attachment = attachment;
+            this.handler = handler;
+        }
+
+        private void done() {
+            if (remaining.decrementAndGet() == 0)
+                Invoker.invokeUnchecked(handler, attachment, total.get(), exc.get());
+        }
+
+        public void completed(Integer result, Object ignore) {
+            if (result > 0)
+                total.addAndGet(result);
+            done();
+        }
+
+        public void failed(Throwable x, Object ignore) {
+            exc.compareAndSet(null, x);
+            done();
+        }
+    }
+}
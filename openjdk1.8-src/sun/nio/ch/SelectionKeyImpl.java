@@ -102,7 +102,7 @@ public class SelectionKeyImpl
     public SelectionKey nioInterestOps(int ops) {
         if ((ops & ~channel().validOps()) != 0)
             throw new IllegalArgumentException();
-        channel.translateAndSetInterestOps(ops, this);
+        selector.setInterestOps(this, ops);
         interestOps = ops;
         return this;
     }
@@ -111,4 +111,25 @@ public class SelectionKeyImpl
         return interestOps;
     }
 
+    // Set while this key is queued for an interest-set update by a
+    // selector that queues updates
+    private volatile int updateQueued;
+
+    private static final
+        java.util.concurrent.atomic.AtomicIntegerFieldUpdater<SelectionKeyImpl>
+        UPDATE_QUEUED = java.util.concurrent.atomic.AtomicIntegerFieldUpdater
+            .newUpdater(SelectionKeyImpl.class, "updateQueued");
+
+    void setQueuedInterestOps(int ops) {                // package-private
+        interestOps = ops;
+    }
+
+    boolean markUpdateQueued() {                        // package-private
+        return UPDATE_QUEUED.compareAndSet(this, 0, 1);
+    }
+
+    void clearUpdateQueued() {                          // package-private
+        updateQueued = 0;
+    }
+
 }
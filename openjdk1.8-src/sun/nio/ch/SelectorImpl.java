@@ -83,7 +83,7 @@ public abstract class SelectorImpl
                 throw new ClosedSelectorException();
             synchronized (publicKeys) {
                 synchronized (publicSelectedKeys) {
-                    return doSelect(timeout);
+                    return processUpdatesAndSelect(timeout);
                 }
             }
         }
@@ -105,7 +105,7 @@ public abstract class SelectorImpl
         return lockAndDoSelect(0);
     }
 
-    public void implCloseSelector() throws IOException {
+    private void implCloseSelector0() throws IOException {
         wakeup();
         synchronized (this) {
             synchronized (publicKeys) {
@@ -120,9 +120,9 @@ public abstract class SelectorImpl
 
     public void putEventOps(SelectionKeyImpl sk, int ops) { }
 
-    protected final SelectionKey register(AbstractSelectableChannel ch,
-                                          int ops,
-                                          Object attachment)
+    private SelectionKey register0(AbstractSelectableChannel ch,
+                                   int ops,
+                                   Object attachment)
     {
         if (!(ch instanceof SelChImpl))
             throw new IllegalSelectorException();
@@ -161,4 +161,251 @@ public abstract class SelectorImpl
 
     abstract public Selector wakeup();
 
+    // -- Queued registration and interest-set updates --
+
+    // If true, registrations and interest-set changes are queued and
+    // applied by the selecting thread at the start of each selection
+    // operation instead of contending for the selector's key sets
+    private static final boolean QUEUE_UPDATES =
+        java.security.AccessController.doPrivileged(
+            new sun.security.action.GetBooleanAction(
+                "sun.nio.ch.selectorQueuedUpdates")).booleanValue();
+
+    // Keys registered but not yet added to the key set
+    private final java.util.concurrent.ConcurrentLinkedQueue<SelectionKeyImpl>
+        newKeys = new java.util.concurrent.ConcurrentLinkedQueue<>();
+
+    // Keys whose interest sets have changed since the last selection
+    private final java.util.concurrent.ConcurrentLinkedQueue<SelectionKeyImpl>
+        updatedKeys = new java.util.concurrent.ConcurrentLinkedQueue<>();
+
+    // True from just before the queues are drained until a blocking
+    // selection returns. A thread that queues an update while it is set
+    // wakes the selector, as the update would otherwise wait for the
+    // next selection.
+    private volatile boolean selecting;
+
+    // Called after queueing an update. The queue operation and the read of
+    // selecting pair with the write of selecting and the draining of the
+    // queues, so either the selecting thread sees the update or the
+    // updating thread sees the flag.
+    private void wakeupIfSelecting() {
+        if (selecting)
+            wakeup();
+    }
+
+    protected final SelectionKey register(AbstractSelectableChannel ch,
+                                          int ops,
+                                          Object attachment)
+    {
+        if (!QUEUE_UPDATES)
+            return register0(ch, ops, attachment);
+        if (!(ch instanceof SelChImpl))
+            throw new IllegalSelectorException();
+        if ((ops & ~ch.validOps()) != 0)
+            throw new IllegalArgumentException();
+        if (!isOpen())
+            throw new ClosedSelectorException();
+        SelectionKeyImpl k = new SelectionKeyImpl((SelChImpl)ch, this);
+        k.attach(attachment);
+        k.setQueuedInterestOps(ops);
+        newKeys.add(k);
+        // implCloseSelector drains the queue after the selector is marked
+        // closed, so a registration that raced with close is withdrawn here
+        if (!isOpen() && newKeys.remove(k))
+            throw new ClosedSelectorException();
+        wakeupIfSelecting();
+        return k;
+    }
+
+    /**
+     * Changes the interest set of the given key. When updates are queued
+     * the change is recorded and applied at the start of a selection
+     * operation; if a blocking selection is in progress then the selector
+     * is woken up so that the next one applies it.
+     */
+    void setInterestOps(SelectionKeyImpl ski, int ops) {
+        if (!QUEUE_UPDATES) {
+            ski.channel.translateAndSetInterestOps(ops, ski);
+            return;
+        }
+        ski.setQueuedInterestOps(ops);
+        if (ski.markUpdateQueued()) {
+            updatedKeys.add(ski);
+            wakeupIfSelecting();
+        }
+    }
+
+    /*
+     * Applies the queued registrations, then the queued interest-set
+     * changes. Precondition: Synchronized on this, keys, and selectedKeys
+     */
+    private void processUpdateQueue() throws IOException {
+        SelectionKeyImpl ski;
+        while ((ski = newKeys.poll()) != null) {
+            if (!ski.isValid()) {
+                // cancelled before it was ever added; a key cancelled from
+                // here on is handled by processDeregisterQueue
+                Set<SelectionKey> cks = cancelledKeys();
+                synchronized (cks) {
+                    cks.remove(ski);
+                }
+                deregister(ski);
+                SelectableChannel selch = ski.channel();
+                if (!selch.isOpen() && !selch.isRegistered())
+                    ((SelChImpl)selch).kill();
+                continue;
+            }
+            implRegister(ski);
+            ski.channel.translateAndSetInterestOps(ski.nioInterestOps(), ski);
+        }
+        while ((ski = updatedKeys.poll()) != null) {
+            // clear the mark before reading the interest set, so that a
+            // change made after the read queues the key again
+            ski.clearUpdateQueued();
+            if (ski.isValid())
+                ski.channel.translateAndSetInterestOps(ski.nioInterestOps(),
+                                                       ski);
+        }
+    }
+
+    private int processUpdatesAndSelect(long timeout) throws IOException {
+        if (!QUEUE_UPDATES)
+            return doSelect(timeout);
+        // selectNow returns at once, so updates queued meanwhile need
+        // no wakeup
+        boolean blocking = (timeout != 0);
+        if (blocking)
+            selecting = true;
+        try {
+            processUpdateQueue();
+            return doSelect(timeout);
+        } finally {
+            if (blocking)
+                selecting = false;
+        }
+    }
+
+    public void implCloseSelector() throws IOException {
+        implCloseSelector0();
+        if (QUEUE_UPDATES) {
+            SelectionKeyImpl ski;
+            synchronized (this) {
+                while ((ski = newKeys.poll()) != null) {
+                    deregister(ski);
+                    SelectableChannel selch = ski.channel();
+                    if (!selch.isOpen() && !selch.isRegistered())
+                        ((SelChImpl)selch).kill();
+                }
+            }
+            updatedKeys.clear();
+        }
+    }
+
+    // -- Selection with an action --
+
+    // True while a select(Consumer) collects ready keys into readyKeys
+    // rather than the selected-key set
+    private boolean collectingReadyKeys;
+
+    private SelectionKeyImpl[] readyKeys = new SelectionKeyImpl[16];
+    private int readyCount;
+
+    /**
+     * Tells whether this selector's updateSelectedKeys honors
+     * isCollectingReadyKeys. Selectors that do not are driven through the
+     * selected-key set by the default select(Consumer) implementation.
+     */
+    protected boolean canCollectReadyKeys() {
+        return false;
+    }
+
+    protected final boolean isCollectingReadyKeys() {
+        return collectingReadyKeys;
+    }
+
+    /**
+     * Called from updateSelectedKeys while collecting: sets the key's ready
+     * set from the polled events and, if any of them is of interest,
+     * appends the key to the keys passed to the action.
+     * Returns the number of keys updated, 0 or 1.
+     */
+    protected final int addReadyKey(SelectionKeyImpl ski, int rOps) {
+        ski.channel.translateAndSetReadyOps(rOps, ski);
+        if ((ski.nioReadyOps() & ski.nioInterestOps()) == 0)
+            return 0;
+        if (readyCount == readyKeys.length)
+            readyKeys = Arrays.copyOf(readyKeys, readyCount * 2);
+        readyKeys[readyCount++] = ski;
+        return 1;
+    }
+
+    @Override
+    public int select(java.util.function.Consumer<SelectionKey> action,
+                      long timeout)
+        throws IOException
+    {
+        if (!canCollectReadyKeys())
+            return super.select(action, timeout);
+        Objects.requireNonNull(action);
+        if (timeout < 0)
+            throw new IllegalArgumentException("Negative timeout");
+        return lockAndDoSelect(action, (timeout == 0) ? -1 : timeout);
+    }
+
+    @Override
+    public int select(java.util.function.Consumer<SelectionKey> action)
+        throws IOException
+    {
+        return select(action, 0);
+    }
+
+    @Override
+    public int selectNow(java.util.function.Consumer<SelectionKey> action)
+        throws IOException
+    {
+        if (!canCollectReadyKeys())
+            return super.selectNow(action);
+        Objects.requireNonNull(action);
+        return lockAndDoSelect(action, 0);
+    }
+
+    private int lockAndDoSelect(java.util.function.Consumer<SelectionKey> action,
+                                long timeout)
+        throws IOException
+    {
+        synchronized (this) {
+            if (!isOpen())
+                throw new ClosedSelectorException();
+            int n;
+            synchronized (publicKeys) {
+                synchronized (publicSelectedKeys) {
+                    readyCount = 0;
+                    collectingReadyKeys = true;
+                    try {
+                        n = processUpdatesAndSelect(timeout);
+                    } finally {
+                        collectingReadyKeys = false;
+                    }
+                }
+            }
+            // the action runs outside the key-set locks so that it may
+            // register channels and change interest sets
+            int count = readyCount;
+            readyCount = 0;
+            try {
+                for (int i = 0; i < count; i++) {
+                    SelectionKeyImpl ski = readyKeys[i];
+                    readyKeys[i] = null;
+                    action.accept(ski);
+                    if (!isOpen())
+                        throw new ClosedSelectorException();
+                }
+            } finally {
+                Arrays.fill(readyKeys, 0, count, null);
+            }
+            return n;
+        }
+    }
+
 }
@@ -186,7 +186,7 @@ class ServerSocketChannelImpl
             set.add(StandardSocketOptions.SO_RCVBUF);
             set.add(StandardSocketOptions.SO_REUSEADDR);
             set.add(StandardSocketOptions.IP_TOS);
-            return Collections.unmodifiableSet(set);
+            return Collections.unmodifiableSet(addReusePort(set));
         }
     }
 
@@ -441,4 +441,10 @@ class ServerSocketChannelImpl
         nd = new SocketDispatcher();
     }
 
+    private static Set<SocketOption<?>> addReusePort(Set<SocketOption<?>> set) {
+        if (Net.isReusePortAvailable())
+            set.add(ExtendedSocketOption.SO_REUSEPORT);
+        return set;
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.nio.ch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.function.Consumer;
+
+
+/**
+ * Accepts connections on one address with several acceptor threads, each
+ * with its own selector.
+ *
+ * <p> Where SO_REUSEPORT is available every acceptor binds its own listening
+ * socket to the address and the kernel spreads incoming connections among
+ * them, so acceptors share neither an accept queue nor the channel lock.
+ * Elsewhere the acceptors share a single listening socket.
+ */
+
+public final class ShardedAcceptor implements Closeable {
+
+    /**
+     * Receives the connections accepted by an acceptor, on that acceptor's
+     * thread. The channel is in blocking mode.
+     */
+    public interface Handler {
+        void accepted(SocketChannel ch, int acceptor) throws IOException;
+    }
+
+    private final ServerSocketChannel[] listeners;
+    private final Selector[] selectors;
+    private final Thread[] threads;
+    private InetSocketAddress localAddress;
+    private volatile boolean closed;
+
+    /**
+     * Binds the listeners and starts the acceptor threads.
+     *
+     * @param local the address to bind to; if its port is 0 the first
+     *        listener picks one and the others bind to the same port
+     * @param acceptors the number of acceptor threads
+     * @param backlog the backlog of each listening socket
+     */
+    public static ShardedAcceptor open(SocketAddress local, int acceptors,
+                                       int backlog, Handler handler)
+        throws IOException
+    {
+        if (acceptors < 1)
+            throw new IllegalArgumentException("acceptors < 1");
+        if (handler == null)
+            throw new NullPointerException();
+        ShardedAcceptor sa = new ShardedAcceptor(acceptors);
+        try {
+            sa.bind(Net.checkAddress(local), backlog);
+            sa.start(handler);
+        } catch (IOException | RuntimeException x) {
+            sa.close();
+            throw x;
+        }
+        return sa;
+    }
+
+    private ShardedAcceptor(int acceptors) {
+        boolean reusePort = Net.isReusePortAvailable();
+        listeners = new ServerSocketChannel[reusePort ? acceptors : 1];
+        selectors = new Selector[acceptors];
+        threads = new Thread[acceptors];
+    }
+
+    private void bind(InetSocketAddress local, int backlog) throws IOException {
+        SelectorProvider sp = SelectorProvider.provider();
+        InetSocketAddress isa = local;
+        for (int i = 0; i < listeners.length; i++) {
+            ServerSocketChannel ssc = sp.openServerSocketChannel();
+            listeners[i] = ssc;
+            ssc.setOption(StandardSocketOptions.SO_REUSEADDR, Boolean.TRUE);
+            if (listeners.length > 1)
+                ssc.setOption(ExtendedSocketOption.SO_REUSEPORT, Boolean.TRUE);
+            ssc.configureBlocking(false);
+            ssc.bind(isa, backlog);
+            if (i == 0) {
+                InetSocketAddress bound = (InetSocketAddress)ssc.getLocalAddress();
+                isa = new InetSocketAddress(local.getAddress(), bound.getPort());
+                localAddress = bound;
+            }
+        }
+        for (int i = 0; i < selectors.length; i++) {
+            selectors[i] = sp.openSelector();
+            listeners[i % listeners.length].register(selectors[i],
+                                                     SelectionKey.OP_ACCEPT);
+        }
+    }
+
+    private void start(final Handler handler) {
+        for (int i = 0; i < threads.length; i++) {
+            final int acceptor = i;
+            final Selector sel = selectors[i];
+            final ServerSocketChannel ssc = listeners[i % listeners.length];
+            Thread t = new Thread(new Runnable() {
+                public void run() {
+                    acceptLoop(acceptor, sel, ssc, handler);
+                }
+            }, "Acceptor-" + i);
+            t.setDaemon(true);
+            threads[i] = t;
+            t.start();
+        }
+    }
+
+    private void acceptLoop(final int acceptor, Selector sel,
+                            final ServerSocketChannel ssc,
+                            final Handler handler)
+    {
+        Consumer<SelectionKey> action = new Consumer<SelectionKey>() {
+            public void accept(SelectionKey key) {
+                // drain the accept queue; with a shared listener another
+                // acceptor may already have taken the connection
+                SocketChannel sc;
+                while (!closed && (sc = acceptOne(ssc)) != null) {
+                    try {
+                        handler.accepted(sc, acceptor);
+                    } catch (IOException | RuntimeException x) {
+                        try {
+                            sc.close();
+                        } catch (IOException ignore) { }
+                    }
+                }
+            }
+        };
+        while (!closed) {
+            try {
+                sel.select(action);
+            } catch (ClosedSelectorException x) {
+                return;
+            } catch (IOException x) {
+                if (closed)
+                    return;
+            }
+        }
+    }
+
+    private SocketChannel acceptOne(ServerSocketChannel ssc) {
+        try {
+            return ssc.accept();
+        } catch (IOException x) {
+            // out of file descriptors, or the connection was reset before
+            // it was accepted; back off briefly rather than spin
+            if (!closed) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ignore) { }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the address the listeners are bound to.
+     */
+    public InetSocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * Returns the number of listening sockets: the number of acceptors
+     * where SO_REUSEPORT is available, otherwise one.
+     */
+    public int listenerCount() {
+        return listeners.length;
+    }
+
+    /**
+     * Closes the listeners and the selectors, stopping the acceptor threads.
+     */
+    public void close() throws IOException {
+        closed = true;
+        IOException failure = null;
+        for (Selector sel : selectors) {
+            if (sel == null)
+                continue;
+            try {
+                sel.close();
+            } catch (IOException x) {
+                failure = x;
+            }
+        }
+        for (ServerSocketChannel ssc : listeners) {
+            if (ssc == null)
+                continue;
+            try {
+                ssc.close();
+            } catch (IOException x) {
+                failure = x;
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
+}
@@ -48,10 +48,10 @@ public class SimpleAsynchronousFileChannelImpl
     }
 
     // Used to make native read and write calls
-    private static final FileDispatcher nd = new FileDispatcherImpl();
+    static final FileDispatcher nd = new FileDispatcherImpl();
 
     // Thread-safe set of IDs of native threads, for signalling
-    private final NativeThreadSet threads = new NativeThreadSet(2);
+    final NativeThreadSet threads = new NativeThreadSet(2);
 
 
     SimpleAsynchronousFileChannelImpl(FileDescriptor fdObj,
@@ -70,7 +70,7 @@ public class SimpleAsynchronousFileChannelImpl
         // Executor is either default or based on pool parameters
         ExecutorService executor = (pool == null) ?
             DefaultExecutorHolder.defaultExecutor : pool.executor();
-        return new SimpleAsynchronousFileChannelImpl(fdo, reading, writing, executor);
+        return newChannel(fdo, reading, writing, executor);
     }
 
     @Override
@@ -393,4 +393,16 @@ public class SimpleAsynchronousFileChannelImpl
         executor.execute(task);
         return result;
     }
+
+    // Returns the queued implementation when an I/O queue depth has been
+    // configured, otherwise a channel of this class
+    private static AsynchronousFileChannel newChannel(FileDescriptor fdo,
+                                                      boolean reading,
+                                                      boolean writing,
+                                                      ExecutorService executor)
+    {
+        if (QueuedAsynchronousFileChannelImpl.isEnabled())
+            return new QueuedAsynchronousFileChannelImpl(fdo, reading, writing, executor);
+        return new SimpleAsynchronousFileChannelImpl(fdo, reading, writing, executor);
+    }
 }
@@ -291,7 +291,7 @@ class SocketChannelImpl
         }
     }
 
-    public int read(ByteBuffer buf) throws IOException {
+    private int doRead(ByteBuffer buf) throws IOException {
 
         if (buf == null)
             throw new NullPointerException();
@@ -419,7 +419,7 @@ class SocketChannelImpl
         }
     }
 
-    public long read(ByteBuffer[] dsts, int offset, int length)
+    private long doRead(ByteBuffer[] dsts, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > dsts.length - length))
@@ -454,7 +454,7 @@ class SocketChannelImpl
         }
     }
 
-    public int write(ByteBuffer buf) throws IOException {
+    private int doWrite(ByteBuffer buf) throws IOException {
         if (buf == null)
             throw new NullPointerException();
         synchronized (writeLock) {
@@ -485,7 +485,7 @@ class SocketChannelImpl
         }
     }
 
-    public long write(ByteBuffer[] srcs, int offset, int length)
+    private long doWrite(ByteBuffer[] srcs, int offset, int length)
         throws IOException
     {
         if ((offset < 0) || (length < 0) || (offset > srcs.length - length))
@@ -1036,4 +1036,86 @@ class SocketChannelImpl
         nd = new SocketDispatcher();
     }
 
+    // -- I/O statistics --
+
+    // null unless statistics collection is enabled
+    final ChannelIOStatistics.Stats ioStats =
+        ChannelIOStatistics.newStats(ChannelIOStatistics.SOCKET);
+
+    public int read(ByteBuffer buf) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(buf);
+        long start = System.nanoTime();
+        synchronized (readLock) {
+            long locked = System.nanoTime();
+            int result = 0;
+            try {
+                result = doRead(buf);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public long read(ByteBuffer[] dsts, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doRead(dsts, offset, length);
+        long start = System.nanoTime();
+        synchronized (readLock) {
+            long locked = System.nanoTime();
+            long result = 0;
+            try {
+                result = doRead(dsts, offset, length);
+                return result;
+            } finally {
+                s.read(locked - start, System.nanoTime() - locked, result);
+            }
+        }
+    }
+
+    public int write(ByteBuffer buf) throws IOException {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(buf);
+        long requested = (buf == null) ? 0 : buf.remaining();
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            long locked = System.nanoTime();
+            int result = -1;
+            try {
+                result = doWrite(buf);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
+    public long write(ByteBuffer[] srcs, int offset, int length)
+        throws IOException
+    {
+        ChannelIOStatistics.Stats s = ioStats;
+        if (s == null)
+            return doWrite(srcs, offset, length);
+        long requested = ChannelIOStatistics.remaining(srcs, offset, length);
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            long locked = System.nanoTime();
+            long result = -1;
+            try {
+                result = doWrite(srcs, offset, length);
+                return result;
+            } finally {
+                s.write(locked - start, System.nanoTime() - locked, result,
+                        requested);
+            }
+        }
+    }
+
 }
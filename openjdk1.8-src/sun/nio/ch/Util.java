@@ -238,7 +238,7 @@ public class Util {
                 buf = cache.removeFirst();
                 free(buf);
             }
-            return ByteBuffer.allocateDirect(size);
+            return TEMP_BUFFER_POOL.allocate(size);
         }
     }
 
@@ -296,7 +296,7 @@ public class Util {
      * Frees the memory for the given direct buffer
      */
     private static void free(ByteBuffer buf) {
-        ((DirectBuffer)buf).cleaner().clean();
+        releaseToPool(buf);
     }
 
 
@@ -482,4 +482,64 @@ public class Util {
         return bugLevel.equals(bl);
     }
 
+
+    // -- Temporary buffer pool --
+
+    // Backs the per-thread caches: buffers evicted from a cache go back to
+    // the pool instead of waiting for their Cleaner, and a cache miss takes
+    // a buffer from the pool before allocating new memory
+    private static final java.nio.DirectByteBufferPool TEMP_BUFFER_POOL =
+        new java.nio.DirectByteBufferPool(getMaxPooledBufferBytes());
+
+    /**
+     * Returns the max number of bytes held by the temporary buffer pool
+     * beyond the per-thread caches. It defaults to 16MB and can be set
+     * with the jdk.nio.maxPooledBufferBytes property.
+     */
+    private static long getMaxPooledBufferBytes() {
+        String s = AccessController.doPrivileged(
+            new GetPropertyAction("jdk.nio.maxPooledBufferBytes"));
+        if (s != null) {
+            try {
+                long m = Long.parseLong(s);
+                if (m >= 0)
+                    return m;
+            } catch (NumberFormatException e) {
+                // ignore the system property
+            }
+        }
+        return 16L << 20;
+    }
+
+    private static void releaseToPool(ByteBuffer buf) {
+        if (isBufferTooLarge(buf)) {
+            // not to be kept: free now if it has memory of its own
+            Cleaner cl = ((DirectBuffer)buf).cleaner();
+            if (cl != null)
+                cl.clean();
+        } else {
+            TEMP_BUFFER_POOL.release(buf);
+        }
+    }
+
+    /**
+     * Checks the arguments of a batched positional read or write.
+     *
+     * @throws  NullPointerException
+     *          If either array, or any buffer, is null
+     *
+     * @throws  IllegalArgumentException
+     *          If the arrays differ in length, or if a position is negative
+     */
+    public static void checkBatch(long[] positions, ByteBuffer[] bufs) {
+        if (positions.length != bufs.length)
+            throw new IllegalArgumentException("Length mismatch");
+        for (int i = 0; i < bufs.length; i++) {
+            if (bufs[i] == null)
+                throw new NullPointerException();
+            if (positions[i] < 0)
+                throw new IllegalArgumentException("Negative position");
+        }
+    }
+
 }
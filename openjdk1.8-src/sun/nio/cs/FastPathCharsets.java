@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.nio.cs;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+
+/*
+ * Identifies the platform charsets for which java.lang.StringCoding
+ * carries dedicated array loops, so that it can skip the
+ * CharsetDecoder/CharsetEncoder setup for them altogether.
+ *
+ * The checks are exact class comparisons: a user subclass of a public
+ * charset class (US_ASCII is public) never takes the fast path.  A
+ * decoder qualifies only if it is one of the platform's own decoders.
+ */
+
+public final class FastPathCharsets {
+
+    public static final int NONE   = 0;
+    public static final int ASCII  = 1;
+    public static final int LATIN1 = 2;
+    public static final int UTF8   = 3;
+
+    private FastPathCharsets() { }
+
+    public static int kindOf(Charset cs) {
+        Class<?> c = cs.getClass();
+        if (c == ISO_8859_1.class)
+            return LATIN1;
+        if (c == US_ASCII.class)
+            return ASCII;
+        if (c == UTF_8.class)
+            return UTF8;
+        return NONE;
+    }
+
+    public static int kindOf(CharsetDecoder dec) {
+        if (dec.getClass().getClassLoader() != null)
+            return NONE;
+        return kindOf(dec.charset());
+    }
+}
@@ -315,7 +315,7 @@ public class StreamDecoder extends Reader
 
         boolean eof = false;
         for (;;) {
-        CoderResult cr = decoder.decode(bb, cb, eof);
+        CoderResult cr = decode(bb, cb, eof);
         if (cr.isUnderflow()) {
             if (eof)
                 break;
@@ -378,4 +378,40 @@ public class StreamDecoder extends Reader
         in.close();
     }
 
+    // -- ASCII fast path --
+
+    // FastPathCharsets kind of the decoder, -1 until first computed
+    private int fastPath = -1;
+
+    /*
+     * Same as decoder.decode(bb, cb, eof), except that for the platform
+     * US-ASCII, ISO-8859-1 and UTF-8 decoders the leading run of bytes that
+     * map one-to-one onto chars is first copied straight from the byte
+     * array into the char array. The decoders keep no state between calls
+     * (an incomplete sequence is left in bb), so bb is always positioned at
+     * the start of a character here.
+     */
+    private CoderResult decode(ByteBuffer bb, CharBuffer cb, boolean eof) {
+        if (fastPath < 0)
+            fastPath = FastPathCharsets.kindOf(decoder);
+        if (fastPath != FastPathCharsets.NONE && bb.hasArray() && cb.hasArray()) {
+            byte[] ba = bb.array();
+            char[] ca = cb.array();
+            int sp = bb.arrayOffset() + bb.position();
+            int dp = cb.arrayOffset() + cb.position();
+            int n = Math.min(bb.remaining(), cb.remaining());
+            int i = 0;
+            if (fastPath == FastPathCharsets.LATIN1) {
+                for (; i < n; i++)
+                    ca[dp + i] = (char)(ba[sp + i] & 0xff);
+            } else {
+                for (; i < n && ba[sp + i] >= 0; i++)
+                    ca[dp + i] = (char)ba[sp + i];
+            }
+            bb.position(bb.position() + i);
+            cb.position(cb.position() + i);
+        }
+        return decoder.decode(bb, cb, eof);
+    }
+
 }
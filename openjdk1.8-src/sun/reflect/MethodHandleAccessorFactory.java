@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import sun.invoke.util.Wrapper;
+import sun.security.action.GetPropertyAction;
+
+/** Creates MethodAccessors and ConstructorAccessors that call the
+    target through a {@link MethodHandle} instead of through a class
+    generated by {@link MethodAccessorGenerator}. The direct method
+    handles and their spreading adapters share LambdaForms by erased
+    signature, so no class is defined per reflected member and there
+    is no need to start out with the native accessor and inflate.
+
+    <P> Enabled with <code>-Dsun.reflect.useMethodHandles=true</code>.
+    Fields keep using the Unsafe-based accessors, which already need no
+    generated class. </P> */
+
+class MethodHandleAccessorFactory {
+
+    private MethodHandleAccessorFactory() {}
+
+    private static class Holder {
+        static final boolean ENABLED = "true".equals(
+            AccessController.doPrivileged(
+                new GetPropertyAction("sun.reflect.useMethodHandles")));
+    }
+
+    /** The system properties are not set up until the VM is booted, and
+        java.lang.invoke itself must not be needed to bootstrap itself. */
+    static boolean enabled() {
+        return sun.misc.VM.isBooted() && Holder.ENABLED;
+    }
+
+    private static volatile MethodHandles.Lookup implLookup;
+
+    /** The trusted lookup, which can access any member. */
+    private static MethodHandles.Lookup lookup() {
+        MethodHandles.Lookup l = implLookup;
+        if (l == null) {
+            l = AccessController.doPrivileged(
+                new PrivilegedAction<MethodHandles.Lookup>() {
+                    public MethodHandles.Lookup run() {
+                        try {
+                            Field f = MethodHandles.Lookup.class.
+                                getDeclaredField("IMPL_LOOKUP");
+                            f.setAccessible(true);
+                            return (MethodHandles.Lookup) f.get(null);
+                        } catch (ReflectiveOperationException e) {
+                            throw new InternalError(e);
+                        }
+                    }
+                });
+            implLookup = l;
+        }
+        return l;
+    }
+
+    /** Members of these classes keep the regular accessors, since the
+        method handle machinery may itself use reflection while it is
+        being set up. */
+    private static boolean isExcluded(Class<?> declaringClass) {
+        String name = declaringClass.getName();
+        return name.startsWith("java.lang.invoke.") ||
+            name.startsWith("sun.invoke.") ||
+            name.startsWith("sun.reflect.");
+    }
+
+    /** Returns a method handle based accessor for the given method, or
+        null if the regular accessor must be used. Caller-sensitive
+        methods always take the regular path, which is known to the
+        stack walk that finds their caller. */
+    static MethodAccessor newMethodAccessor(Method method) {
+        if (!enabled() || isExcluded(method.getDeclaringClass()) ||
+            Reflection.isCallerSensitive(method)) {
+            return null;
+        }
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] ptypes = method.getParameterTypes();
+        MethodHandle target;
+        try {
+            target = lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        // Erase to (Object, Object[])Object or (Object[])Object
+        int n = ptypes.length;
+        MethodType generic = MethodType.genericMethodType(isStatic ? n : n + 1);
+        target = target.asType(generic).asSpreader(Object[].class, n);
+        return new MethodHandleMethodAccessorImpl(method.getDeclaringClass(),
+                                                  ptypes, isStatic, target);
+    }
+
+    /** Returns a method handle based accessor for the given constructor,
+        or null if the regular accessor must be used. */
+    static ConstructorAccessor newConstructorAccessor(Constructor<?> c) {
+        if (!enabled() || isExcluded(c.getDeclaringClass())) {
+            return null;
+        }
+        Class<?>[] ptypes = c.getParameterTypes();
+        MethodHandle target;
+        try {
+            target = lookup().unreflectConstructor(c);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        int n = ptypes.length;
+        target = target.asType(MethodType.genericMethodType(n))
+                       .asSpreader(Object[].class, n);
+        return new MethodHandleConstructorAccessorImpl(c.getDeclaringClass(),
+                                                       ptypes, target);
+    }
+
+    /** Initializes the given class if needed. The method handles would
+        do it themselves, but the accessors must let an
+        ExceptionInInitializerError through unwrapped, as Method.invoke
+        and Constructor.newInstance are specified to. */
+    static void ensureClassInitialized(Class<?> c) {
+        UnsafeFieldAccessorImpl.unsafe.ensureClassInitialized(c);
+    }
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /** Checks the arguments as the generated accessors do and returns
+        them, with each primitive argument converted to the exact wrapper
+        type of its parameter. The caller's array is never modified.
+
+        @throws IllegalArgumentException if the number of arguments is
+        wrong, or an argument cannot be converted to its parameter type
+        by an unboxing, or unboxing and widening, conversion */
+    static Object[] checkArguments(Class<?>[] ptypes, Object[] args) {
+        int n = ptypes.length;
+        if ((args == null) ? n != 0 : args.length != n) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        if (n == 0) {
+            return NO_ARGS;
+        }
+        Object[] result = args;
+        for (int i = 0; i < n; i++) {
+            Class<?> type = ptypes[i];
+            Object arg = args[i];
+            if (type.isPrimitive()) {
+                Object w = unboxAndWiden(type, arg);
+                if (w != arg) {
+                    if (result == args) {
+                        result = args.clone();
+                    }
+                    result[i] = w;
+                }
+            } else if (arg != null && !type.isInstance(arg)) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+        return result;
+    }
+
+    private static Object unboxAndWiden(Class<?> type, Object arg) {
+        if (arg == null || !Wrapper.isWrapperType(arg.getClass())) {
+            throw new IllegalArgumentException("argument type mismatch");
+        }
+        Wrapper dst = Wrapper.forPrimitiveType(type);
+        Wrapper src = Wrapper.forWrapperType(arg.getClass());
+        if (src == dst) {
+            return arg;
+        }
+        if (!dst.isConvertibleFrom(src)) {
+            throw new IllegalArgumentException("argument type mismatch");
+        }
+        return dst.wrap(arg);
+    }
+}
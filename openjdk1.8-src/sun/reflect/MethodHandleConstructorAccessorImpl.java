@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+
+/** ConstructorAccessor that invokes the target constructor through a
+    spreading method handle. See MethodHandleAccessorFactory. */
+
+class MethodHandleConstructorAccessorImpl extends ConstructorAccessorImpl {
+    private final Class<?> declaringClass;
+    private final Class<?>[] ptypes;
+    // (Object[])Object
+    private final MethodHandle target;
+    // set once the declaring class is known to be initialized
+    private boolean initialized;
+
+    MethodHandleConstructorAccessorImpl(Class<?> declaringClass,
+                                        Class<?>[] ptypes,
+                                        MethodHandle target) {
+        this.declaringClass = declaringClass;
+        this.ptypes = ptypes;
+        this.target = target;
+    }
+
+    public Object newInstance(Object[] args)
+        throws InstantiationException,
+               IllegalArgumentException,
+               InvocationTargetException
+    {
+        Object[] a = MethodHandleAccessorFactory.checkArguments(ptypes, args);
+        if (!initialized) {
+            // See MethodHandleMethodAccessorImpl.invoke
+            MethodHandleAccessorFactory.ensureClassInitialized(declaringClass);
+            initialized = true;
+        }
+        try {
+            return (Object) target.invokeExact(a);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+}
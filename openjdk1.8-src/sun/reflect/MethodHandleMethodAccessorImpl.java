@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+
+/** MethodAccessor that invokes the target method through a spreading
+    method handle. See MethodHandleAccessorFactory. */
+
+class MethodHandleMethodAccessorImpl extends MethodAccessorImpl {
+    private final Class<?> declaringClass;
+    private final Class<?>[] ptypes;
+    private final boolean isStatic;
+    // (Object, Object[])Object, or (Object[])Object if isStatic
+    private final MethodHandle target;
+    // set once the declaring class of a static method is known to be
+    // initialized; a stale false only repeats the check
+    private boolean initialized;
+
+    MethodHandleMethodAccessorImpl(Class<?> declaringClass,
+                                   Class<?>[] ptypes,
+                                   boolean isStatic,
+                                   MethodHandle target) {
+        this.declaringClass = declaringClass;
+        this.ptypes = ptypes;
+        this.isStatic = isStatic;
+        this.target = target;
+    }
+
+    public Object invoke(Object obj, Object[] args)
+        throws IllegalArgumentException, InvocationTargetException
+    {
+        if (!isStatic) {
+            if (obj == null) {
+                throw new NullPointerException();
+            }
+            if (!declaringClass.isInstance(obj)) {
+                throw new IllegalArgumentException(
+                    "object is not an instance of declaring class");
+            }
+        }
+        Object[] a = MethodHandleAccessorFactory.checkArguments(ptypes, args);
+        if (isStatic && !initialized) {
+            // Initialize outside the try block: an ExceptionInInitializerError
+            // is thrown as is, not wrapped in InvocationTargetException
+            MethodHandleAccessorFactory.ensureClassInitialized(declaringClass);
+            initialized = true;
+        }
+        try {
+            if (isStatic) {
+                return (Object) target.invokeExact(a);
+            } else {
+                return (Object) target.invokeExact(obj, a);
+            }
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+}
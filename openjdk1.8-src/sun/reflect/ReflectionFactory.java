@@ -156,7 +156,7 @@ public class ReflectionFactory {
         return UnsafeFieldAccessorFactory.newFieldAccessor(field, override);
     }
 
-    public MethodAccessor newMethodAccessor(Method method) {
+    private MethodAccessor newMethodAccessor0(Method method) {
         checkInitted();
 
         if (noInflation && !ReflectUtil.isVMAnonymousClass(method.getDeclaringClass())) {
@@ -177,7 +177,7 @@ public class ReflectionFactory {
         }
     }
 
-    public ConstructorAccessor newConstructorAccessor(Constructor<?> c) {
+    private ConstructorAccessor newConstructorAccessor0(Constructor<?> c) {
         checkInitted();
 
         Class<?> declaringClass = c.getDeclaringClass();
@@ -705,4 +705,36 @@ public class ReflectionFactory {
                 Objects.equals(cl1.getPackage(), cl2.getPackage());
     }
 
+    //--------------------------------------------------------------------------
+    //
+    // Method handle based accessors, see MethodHandleAccessorFactory
+    //
+
+    public MethodAccessor newMethodAccessor(Method method) {
+        checkInitted();
+
+        MethodAccessor acc = MethodHandleAccessorFactory.newMethodAccessor(method);
+        if (acc != null) {
+            return acc;
+        }
+        return newMethodAccessor0(method);
+    }
+
+    public ConstructorAccessor newConstructorAccessor(Constructor<?> c) {
+        checkInitted();
+
+        // Abstract classes and Class itself get their failing accessors
+        // from newConstructorAccessor0
+        Class<?> declaringClass = c.getDeclaringClass();
+        if (!Modifier.isAbstract(declaringClass.getModifiers()) &&
+            declaringClass != Class.class) {
+            ConstructorAccessor acc =
+                MethodHandleAccessorFactory.newConstructorAccessor(c);
+            if (acc != null) {
+                return acc;
+            }
+        }
+        return newConstructorAccessor0(c);
+    }
+
 }